@@ -37,6 +37,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 
 public class AreaManager
 {
@@ -60,7 +61,7 @@ public class AreaManager
 		for (FSFile file : files.getFiles())
 		{
 			AreaLoader loader = new AreaLoader();
-			AreaDefinition area = loader.load(file.getContents(), file.getFileId());
+			AreaDefinition area = loader.load(new InputStream(file.getContentsBuffer()), file.getFileId());
 			areas.put(area.id, area);
 		}
 	}
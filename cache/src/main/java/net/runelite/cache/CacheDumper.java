@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Crc32;
+import net.runelite.cache.util.Djb2;
+import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.XteaKeyManager;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+/**
+ * Verifies the crc of every archive in a cache and decompresses it, optionally writing
+ * the files of every archive out, spread across a pool of workers.
+ */
+@Slf4j
+public class CacheDumper
+{
+	private static final int MAX_REGION = 32768;
+
+	private final Store store;
+	private final KeyProvider keyProvider;
+	// land archive name hash to region id, for looking up the xtea keys
+	private final Map<Integer, Integer> landRegions = new HashMap<>();
+
+	public CacheDumper(Store store, KeyProvider keyProvider)
+	{
+		this.store = store;
+		this.keyProvider = keyProvider;
+
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			landRegions.put(Djb2.hash("l" + (i >> 8) + "_" + (i & 0xFF)), i);
+		}
+	}
+
+	public static class IndexStats
+	{
+		private final int index;
+		private final AtomicInteger archives = new AtomicInteger();
+		private final AtomicInteger missing = new AtomicInteger();
+		private final AtomicInteger crcMismatches = new AtomicInteger();
+		private final AtomicInteger encrypted = new AtomicInteger();
+		private final AtomicInteger failed = new AtomicInteger();
+		private final AtomicLong compressedBytes = new AtomicLong();
+		private final AtomicLong decompressedBytes = new AtomicLong();
+		private final AtomicLong start = new AtomicLong(Long.MAX_VALUE);
+		private final AtomicLong end = new AtomicLong();
+
+		IndexStats(int index)
+		{
+			this.index = index;
+		}
+
+		public int getIndex()
+		{
+			return index;
+		}
+
+		public int getArchives()
+		{
+			return archives.get();
+		}
+
+		/**
+		 * @return archives listed in the index but not present in the storage
+		 */
+		public int getMissing()
+		{
+			return missing.get();
+		}
+
+		public int getCrcMismatches()
+		{
+			return crcMismatches.get();
+		}
+
+		/**
+		 * @return encrypted archives which were crc checked but not decompressed, due to having no keys
+		 */
+		public int getEncrypted()
+		{
+			return encrypted.get();
+		}
+
+		/**
+		 * @return archives which could not be decompressed or written
+		 */
+		public int getFailed()
+		{
+			return failed.get();
+		}
+
+		public long getCompressedBytes()
+		{
+			return compressedBytes.get();
+		}
+
+		public long getDecompressedBytes()
+		{
+			return decompressedBytes.get();
+		}
+
+		/**
+		 * @return time from the first archive of the index starting to the last finishing
+		 */
+		public long getElapsedNanos()
+		{
+			return Math.max(end.get() - start.get(), 0);
+		}
+
+		public boolean isValid()
+		{
+			return missing.get() == 0 && crcMismatches.get() == 0 && failed.get() == 0;
+		}
+
+		@Override
+		public String toString()
+		{
+			double seconds = Math.max(getElapsedNanos(), 1) / 1e9;
+			return String.format("index %d: %d archives, %d missing, %d crc mismatches, %d encrypted, %d failed, %.1f MB read, %.1f MB decompressed, %.1f MB/s",
+				index, getArchives(), getMissing(), getCrcMismatches(), getEncrypted(), getFailed(),
+				getCompressedBytes() / 1e6, getDecompressedBytes() / 1e6, getCompressedBytes() / 1e6 / seconds);
+		}
+	}
+
+	/**
+	 * Verify, and optionally dump, every archive of every index
+	 *
+	 * @param outDir directory to write the archive files to, or null to only verify
+	 * @param threads number of worker threads
+	 * @param writeQueueSize number of pending file writes, past which the workers write the files themselves
+	 * @return the stats of each index, in index order
+	 */
+	public List<IndexStats> dump(File outDir, int threads, int writeQueueSize) throws IOException
+	{
+		List<IndexStats> stats = new ArrayList<>();
+
+		// bounded queues with the caller running the task when full, so the reader can not
+		// get ahead of the workers and the workers can not get ahead of the writer
+		ExecutorService workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(threads * 4), new ThreadPoolExecutor.CallerRunsPolicy());
+		ExecutorService writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(writeQueueSize), new ThreadPoolExecutor.CallerRunsPolicy());
+		try
+		{
+			for (Index index : store.getIndexes())
+			{
+				IndexStats indexStats = new IndexStats(index.getId());
+				stats.add(indexStats);
+
+				File indexDir = outDir == null ? null : new File(outDir, Integer.toString(index.getId()));
+				for (Archive archive : index.getArchives())
+				{
+					workers.execute(() -> process(index, archive, indexStats, indexDir, writer));
+				}
+			}
+
+			workers.shutdown();
+			workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			writer.shutdown();
+			writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		finally
+		{
+			workers.shutdownNow();
+			writer.shutdownNow();
+		}
+
+		return stats;
+	}
+
+	private void process(Index index, Archive archive, IndexStats stats, File indexDir, ExecutorService writer)
+	{
+		long start = System.nanoTime();
+		stats.start.accumulateAndGet(start, Math::min);
+		stats.archives.incrementAndGet();
+
+		try
+		{
+			Storage storage = store.getStorage();
+			byte[] data = storage.loadArchive(archive);
+			if (data == null)
+			{
+				log.warn("Archive {}/{} is missing", index.getId(), archive.getArchiveId());
+				stats.missing.incrementAndGet();
+				return;
+			}
+
+			stats.compressedBytes.addAndGet(data.length);
+
+			if (crc(data) != archive.getCrc())
+			{
+				log.warn("Archive {}/{} crc mismatch", index.getId(), archive.getArchiveId());
+				stats.crcMismatches.incrementAndGet();
+				return;
+			}
+
+			int[] keys = null;
+			if (index.getId() == IndexType.MAPS.getNumber())
+			{
+				Integer region = landRegions.get(archive.getNameHash());
+				if (region != null)
+				{
+					keys = keyProvider == null ? null : keyProvider.getKey(region);
+					if (keys == null)
+					{
+						stats.encrypted.incrementAndGet();
+						return;
+					}
+				}
+			}
+
+			byte[] decompressed = Container.decompress(data, keys).data;
+			stats.decompressedBytes.addAndGet(decompressed.length);
+
+			if (indexDir != null)
+			{
+				ArchiveFiles files = new ArchiveFiles();
+				for (FileData fileData : archive.getFileData())
+				{
+					files.addFile(new FSFile(fileData.getId()));
+				}
+				files.loadContents(decompressed);
+
+				writer.execute(() -> write(indexDir, archive, files, stats));
+			}
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.warn("Unable to process archive {}/{}", index.getId(), archive.getArchiveId(), ex);
+			stats.failed.incrementAndGet();
+		}
+		finally
+		{
+			stats.end.accumulateAndGet(System.nanoTime(), Math::max);
+		}
+	}
+
+	private static void write(File indexDir, Archive archive, ArchiveFiles files, IndexStats stats)
+	{
+		try
+		{
+			if (files.getFiles().size() == 1)
+			{
+				indexDir.mkdirs();
+				FSFile file = files.getFiles().iterator().next();
+				write(new File(indexDir, archive.getArchiveId() + ".dat"), file);
+				return;
+			}
+
+			File archiveDir = new File(indexDir, Integer.toString(archive.getArchiveId()));
+			archiveDir.mkdirs();
+			for (FSFile file : files.getFiles())
+			{
+				write(new File(archiveDir, file.getFileId() + ".dat"), file);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to write archive {}", archive.getArchiveId(), ex);
+			stats.failed.incrementAndGet();
+		}
+	}
+
+	private static void write(File out, FSFile file) throws IOException
+	{
+		// write the view of the file in the archive buffer without copying it
+		ByteBuffer contents = file.getContentsBuffer();
+		try (FileChannel channel = FileChannel.open(out.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			while (contents.hasRemaining())
+			{
+				channel.write(contents);
+			}
+		}
+	}
+
+	/**
+	 * Compute the crc of archive data as stored in the index, which excludes the trailing revision
+	 */
+	private static int crc(byte[] data)
+	{
+		int compression = data[0] & 0xFF;
+		int length = (data[1] & 0xFF) << 24 | (data[2] & 0xFF) << 16 | (data[3] & 0xFF) << 8 | (data[4] & 0xFF);
+		int crcLength = 5 + length + (compression == CompressionType.NONE ? 0 : 4);
+
+		Crc32 crc32 = new Crc32();
+		crc32.update(data, 0, Math.min(crcLength, data.length));
+		return crc32.getHash();
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		Options options = new Options();
+		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("xteapath").hasArg().desc("xtea keys, to decompress the map locations").build());
+		options.addOption(Option.builder().longOpt("outputdir").hasArg().desc("directory to dump the archive files to, otherwise only verify").build());
+		options.addOption(Option.builder().longOpt("threads").hasArg().build());
+		options.addOption(Option.builder().longOpt("writequeue").hasArg().desc("maximum number of archives waiting to be written").build());
+
+		CommandLineParser parser = new DefaultParser();
+		CommandLine cmd;
+		try
+		{
+			cmd = parser.parse(options, args);
+		}
+		catch (ParseException ex)
+		{
+			System.err.println("Error parsing command line options: " + ex.getMessage());
+			System.exit(-1);
+			return;
+		}
+
+		final String cacheDirectory = cmd.getOptionValue("cachedir");
+		final String xteaJSONPath = cmd.getOptionValue("xteapath");
+		final String outputDirectory = cmd.getOptionValue("outputdir");
+		final int threads = Integer.parseInt(cmd.getOptionValue("threads", Integer.toString(Runtime.getRuntime().availableProcessors())));
+		final int writeQueue = Integer.parseInt(cmd.getOptionValue("writequeue", "256"));
+
+		XteaKeyManager xteaKeyManager = null;
+		if (xteaJSONPath != null)
+		{
+			xteaKeyManager = new XteaKeyManager();
+			try (FileInputStream fin = new FileInputStream(xteaJSONPath))
+			{
+				xteaKeyManager.loadKeys(fin);
+			}
+		}
+
+		File outDir = outputDirectory == null ? null : new File(outputDirectory);
+
+		boolean valid = true;
+		try (Store store = new Store(new DiskStorage(new File(cacheDirectory), true)))
+		{
+			store.load();
+
+			long start = System.nanoTime();
+			List<IndexStats> stats = new CacheDumper(store, xteaKeyManager).dump(outDir, threads, writeQueue);
+			long elapsed = System.nanoTime() - start;
+
+			long bytes = 0;
+			for (IndexStats indexStats : stats)
+			{
+				log.info("{}", indexStats);
+				bytes += indexStats.getCompressedBytes();
+				valid &= indexStats.isValid();
+			}
+			log.info("Processed {} MB in {} ms", bytes / 1_000_000, elapsed / 1_000_000);
+		}
+
+		if (!valid)
+		{
+			System.exit(1);
+		}
+	}
+}
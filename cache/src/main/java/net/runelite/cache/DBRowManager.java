@@ -25,9 +25,11 @@
 package net.runelite.cache;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import net.runelite.cache.definitions.DBRowDefinition;
 import net.runelite.cache.definitions.loaders.DBRowLoader;
@@ -37,11 +39,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 
 public class DBRowManager
 {
 	private final Store store;
 	private final Map<Integer, DBRowDefinition> rows = new HashMap<>();
+	private LazyDefinitions<DBRowDefinition> lazyRows;
 
 	public DBRowManager(Store store)
 	{
@@ -51,6 +55,7 @@ public class DBRowManager
 	public void load() throws IOException
 	{
 		DBRowLoader loader = new DBRowLoader();
+		lazyRows = null;
 
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
@@ -67,18 +72,75 @@ public class DBRowManager
 
 		for (FSFile f : files.getFiles())
 		{
-			DBRowDefinition row = loader.load(f.getFileId(), f.getContents());
+			DBRowDefinition row = loader.load(f.getFileId(), new InputStream(f.getContentsBuffer()));
 			rows.put(f.getFileId(), row);
 		}
 	}
 
+	/**
+	 * Load the rows lazily. Each row is decoded the first time it is requested, so looking up a
+	 * few rows does not decode the whole database.
+	 *
+	 * @param softReferences if true decoded rows may be evicted and decoded again if memory runs low
+	 */
+	public void loadLazy(boolean softReferences) throws IOException
+	{
+		DBRowLoader loader = new DBRowLoader();
+
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.DBROW.getId());
+
+		rows.clear();
+		lazyRows = null;
+
+		// just in case the loader is being run on a cache that doesn't have them
+		if (archive == null)
+		{
+			return;
+		}
+
+		lazyRows = LazyDefinitions.load(store.getStorage(), archive, softReferences, loader::load);
+	}
+
+	/**
+	 * Get all of the rows. When loaded lazily this decodes every row.
+	 */
 	public Collection<DBRowDefinition> getRows()
 	{
+		if (lazyRows != null)
+		{
+			return Collections.unmodifiableCollection(lazyRows.getAll());
+		}
 		return Collections.unmodifiableCollection(rows.values());
 	}
 
 	public DBRowDefinition get(int rowId)
 	{
+		if (lazyRows != null)
+		{
+			return lazyRows.get(rowId);
+		}
 		return rows.get(rowId);
 	}
+
+	/**
+	 * Get the rows with the given ids, such as the result of
+	 * {@link DBTableIndexManager#findRows(int, int, int)}
+	 *
+	 * @param rowIds The row ids.
+	 * @return The rows which exist, in the order of the ids.
+	 */
+	public List<DBRowDefinition> get(int[] rowIds)
+	{
+		List<DBRowDefinition> result = new ArrayList<>(rowIds.length);
+		for (int rowId : rowIds)
+		{
+			DBRowDefinition row = get(rowId);
+			if (row != null)
+			{
+				result.add(row);
+			}
+		}
+		return result;
+	}
 }
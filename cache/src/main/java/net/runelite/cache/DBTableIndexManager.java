@@ -25,10 +25,10 @@
 package net.runelite.cache;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import net.runelite.cache.definitions.DBTableIndex;
 import net.runelite.cache.definitions.loaders.DBTableIndexLoader;
 import net.runelite.cache.fs.Archive;
@@ -40,8 +40,11 @@ import net.runelite.cache.fs.Store;
 
 public class DBTableIndexManager
 {
+	private static final int[] NO_ROWS = new int[0];
+
 	private final Store store;
-	private final Map<Integer, DBTableIndex> indexes = new HashMap<>();
+	// indexes by table id and file id
+	private DBTableIndex[][] indexes = new DBTableIndex[0][];
 
 	public DBTableIndexManager(Store store)
 	{
@@ -59,23 +62,53 @@ public class DBTableIndexManager
 			return;
 		}
 
+		int maxTableId = -1;
+		for (Archive archive : index.getArchives())
+		{
+			maxTableId = Math.max(maxTableId, archive.getArchiveId());
+		}
+		indexes = new DBTableIndex[maxTableId + 1][];
+
 		for (Archive archive : index.getArchives())
 		{
 			byte[] archiveData = storage.loadArchive(archive);
 			ArchiveFiles files = archive.getFiles(archiveData);
 
+			int maxFileId = -1;
+			for (FSFile f : files.getFiles())
+			{
+				maxFileId = Math.max(maxFileId, f.getFileId());
+			}
+
+			DBTableIndex[] tableIndexes = new DBTableIndex[maxFileId + 1];
 			for (FSFile f : files.getFiles())
 			{
 				// file 0 = master index, all others are fileId - 1 = columnId
-				DBTableIndex row = loader.load(archive.getArchiveId(), f.getFileId() - 1, f.getContents());
-				indexes.put(archive.getArchiveId() << 16 | f.getFileId(), row);
+				tableIndexes[f.getFileId()] = loader.load(archive.getArchiveId(), f.getFileId() - 1, f.getContents());
 			}
+			indexes[archive.getArchiveId()] = tableIndexes;
 		}
 	}
 
 	public Collection<DBTableIndex> getIndexes()
 	{
-		return Collections.unmodifiableCollection(indexes.values());
+		List<DBTableIndex> all = new ArrayList<>();
+		for (DBTableIndex[] tableIndexes : indexes)
+		{
+			if (tableIndexes == null)
+			{
+				continue;
+			}
+
+			for (DBTableIndex index : tableIndexes)
+			{
+				if (index != null)
+				{
+					all.add(index);
+				}
+			}
+		}
+		return Collections.unmodifiableCollection(all);
 	}
 
 	/**
@@ -86,7 +119,7 @@ public class DBTableIndexManager
 	 */
 	public DBTableIndex getMaster(int tableId)
 	{
-		return indexes.get(tableId << 16);
+		return getIndex(tableId, 0);
 	}
 
 	/**
@@ -98,6 +131,50 @@ public class DBTableIndexManager
 	 */
 	public DBTableIndex get(int tableId, int columnId)
 	{
-		return indexes.get(tableId << 16 | columnId + 1);
+		return getIndex(tableId, columnId + 1);
+	}
+
+	/**
+	 * Finds the rows of a table with a value in a column. The returned array must not be modified.
+	 *
+	 * @param tableId The table id to lookup.
+	 * @param columnId The column id to lookup.
+	 * @param value The value of the first tuple element of the column.
+	 * @return The row ids, or an empty array if no rows have the value.
+	 */
+	public int[] findRows(int tableId, int columnId, int value)
+	{
+		DBTableIndex index = get(tableId, columnId);
+		return index == null ? NO_ROWS : index.getRowIds(0, value);
+	}
+
+	/**
+	 * Finds the rows of a table with a value in a column. The returned array must not be modified.
+	 *
+	 * @param tableId The table id to lookup.
+	 * @param columnId The column id to lookup.
+	 * @param tuple The tuple element of the column.
+	 * @param value The value of the tuple element.
+	 * @return The row ids, or an empty array if no rows have the value.
+	 */
+	public int[] findRows(int tableId, int columnId, int tuple, Object value)
+	{
+		DBTableIndex index = get(tableId, columnId);
+		return index == null ? NO_ROWS : index.getRowIds(tuple, value);
+	}
+
+	private DBTableIndex getIndex(int tableId, int fileId)
+	{
+		if (tableId < 0 || tableId >= indexes.length)
+		{
+			return null;
+		}
+
+		DBTableIndex[] tableIndexes = indexes[tableId];
+		if (tableIndexes == null || fileId < 0 || fileId >= tableIndexes.length)
+		{
+			return null;
+		}
+		return tableIndexes[fileId];
 	}
 }
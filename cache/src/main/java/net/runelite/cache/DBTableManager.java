@@ -37,6 +37,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 
 public class DBTableManager
 {
@@ -67,7 +68,7 @@ public class DBTableManager
 
 		for (FSFile f : files.getFiles())
 		{
-			DBTableDefinition table = loader.load(f.getFileId(), f.getContents());
+			DBTableDefinition table = loader.load(f.getFileId(), new InputStream(f.getContentsBuffer()));
 			tables.put(f.getFileId(), table);
 		}
 	}
@@ -36,6 +36,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 
 public class InventoryManager
 {
@@ -60,7 +61,7 @@ public class InventoryManager
 
 		for (FSFile file : files.getFiles())
 		{
-			InventoryDefinition inv = loader.load(file.getFileId(), file.getContents());
+			InventoryDefinition inv = loader.load(file.getFileId(), new InputStream(file.getContentsBuffer()));
 			inventories.add(inv);
 		}
 	}
@@ -40,12 +40,15 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 import net.runelite.cache.util.IDClass;
 
 public class ItemManager implements ItemProvider
 {
 	private final Store store;
 	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private LazyDefinitions<ItemDefinition> lazyItems;
+	private volatile boolean linked;
 
 	public ItemManager(Store store)
 	{
@@ -55,6 +58,7 @@ public class ItemManager implements ItemProvider
 	public void load() throws IOException
 	{
 		ItemLoader loader = new ItemLoader();
+		lazyItems = null;
 
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
@@ -65,13 +69,48 @@ public class ItemManager implements ItemProvider
 
 		for (FSFile f : files.getFiles())
 		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
+			ItemDefinition def = loader.load(f.getFileId(), new InputStream(f.getContentsBuffer()));
 			items.put(f.getFileId(), def);
 		}
 	}
 
+	/**
+	 * Load the items lazily. Only the item archive is kept in memory, and each item
+	 * is decoded on its first {@link #getItem(int)}.
+	 *
+	 * @param softReferences hold the decoded items with soft references, so they can
+	 * be evicted and decoded again if memory runs low
+	 */
+	public void loadLazy(boolean softReferences) throws IOException
+	{
+		ItemLoader loader = new ItemLoader();
+
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.ITEM.getId());
+
+		items.clear();
+		lazyItems = LazyDefinitions.load(store.getStorage(), archive, softReferences, (id, b) ->
+		{
+			ItemDefinition def = loader.load(id, b);
+			if (linked)
+			{
+				link(def);
+			}
+			return def;
+		});
+	}
+
 	public void link()
 	{
+		if (lazyItems != null)
+		{
+			// items are linked as they are decoded, and any decoded before now are
+			// dropped so they are decoded again and linked
+			linked = true;
+			lazyItems.clear();
+			return;
+		}
+
 		for (ItemDefinition oc : items.values())
 		{
 			link(oc);
@@ -94,13 +133,24 @@ public class ItemManager implements ItemProvider
 		}
 	}
 
+	/**
+	 * Get all of the items. When loaded lazily this decodes every item.
+	 */
 	public Collection<ItemDefinition> getItems()
 	{
+		if (lazyItems != null)
+		{
+			return Collections.unmodifiableCollection(lazyItems.getAll());
+		}
 		return Collections.unmodifiableCollection(items.values());
 	}
 
 	public ItemDefinition getItem(int itemId)
 	{
+		if (lazyItems != null)
+		{
+			return lazyItems.get(itemId);
+		}
 		return items.get(itemId);
 	}
 
@@ -108,7 +158,7 @@ public class ItemManager implements ItemProvider
 	{
 		out.mkdirs();
 
-		for (ItemDefinition def : items.values())
+		for (ItemDefinition def : getItems())
 		{
 			ItemExporter exporter = new ItemExporter(def);
 
@@ -123,7 +173,7 @@ public class ItemManager implements ItemProvider
 		try (IDClass ids = IDClass.create(java, "ItemID");
 			IDClass nulls = IDClass.create(java, "NullItemID"))
 		{
-			for (ItemDefinition def : items.values())
+			for (ItemDefinition def : getItems())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.InputStream;
+
+/**
+ * The definitions of a config archive, which are decoded on first use. Only the decompressed
+ * archive and the offset of each file within it are kept, and decoded definitions are cached
+ * by id, optionally behind soft references so they may be evicted under memory pressure.
+ * Safe for use from multiple threads.
+ */
+final class LazyDefinitions<T>
+{
+	interface Decoder<T>
+	{
+		T decode(int id, byte[] b);
+	}
+
+	private final byte[] data;
+	// offset and length of each file by id, offset is -1 for missing files
+	private final int[] offsets;
+	private final int[] lengths;
+	// the definition or a soft reference to it, by id
+	private final AtomicReferenceArray<Object> definitions;
+	private final boolean softReferences;
+	private final Decoder<T> decoder;
+	// incremented when the definitions are cleared, so a definition decoded before is not cached after
+	private volatile int generation;
+
+	private LazyDefinitions(byte[] data, int[] offsets, int[] lengths, boolean softReferences, Decoder<T> decoder)
+	{
+		this.data = data;
+		this.offsets = offsets;
+		this.lengths = lengths;
+		this.definitions = new AtomicReferenceArray<>(offsets.length);
+		this.softReferences = softReferences;
+		this.decoder = decoder;
+	}
+
+	static <T> LazyDefinitions<T> load(Storage storage, Archive archive, boolean softReferences, Decoder<T> decoder) throws IOException
+	{
+		byte[] archiveData = storage.loadArchive(archive);
+		FileData[] fileData = archive.getFileData();
+
+		byte[] data = archive.decompress(archiveData);
+		int chunks = fileData.length > 1 ? data[data.length - 1] & 0xFF : 1;
+		if (chunks != 1)
+		{
+			// the files are split across chunks, so rewrite them as a single chunk
+			data = archive.getFiles(archiveData).saveContents();
+		}
+
+		int maxId = -1;
+		for (FileData fd : fileData)
+		{
+			maxId = Math.max(maxId, fd.getId());
+		}
+
+		int[] offsets = new int[maxId + 1];
+		int[] lengths = new int[maxId + 1];
+		Arrays.fill(offsets, -1);
+
+		if (fileData.length == 1)
+		{
+			offsets[fileData[0].getId()] = 0;
+			lengths[fileData[0].getId()] = data.length;
+		}
+		else
+		{
+			InputStream stream = new InputStream(data);
+			stream.setOffset(data.length - 1 - fileData.length * 4);
+
+			int offset = 0;
+			int size = 0;
+			for (FileData fd : fileData)
+			{
+				size += stream.readInt();
+				offsets[fd.getId()] = offset;
+				lengths[fd.getId()] = size;
+				offset += size;
+			}
+		}
+
+		return new LazyDefinitions<>(data, offsets, lengths, softReferences, decoder);
+	}
+
+	/**
+	 * Get a definition, decoding it if it has not been decoded yet or has been evicted
+	 *
+	 * @param id definition id
+	 * @return the definition, or null if there is no definition with the id
+	 */
+	T get(int id)
+	{
+		if (id < 0 || id >= offsets.length || offsets[id] == -1)
+		{
+			return null;
+		}
+
+		for (;;)
+		{
+			Object current = definitions.get(id);
+			T existing = unwrap(current);
+			if (existing != null)
+			{
+				// decoded earlier, or by another thread first
+				return existing;
+			}
+
+			int generation = this.generation;
+			int offset = offsets[id];
+			T def = decoder.decode(id, Arrays.copyOfRange(data, offset, offset + lengths[id]));
+
+			Object value = softReferences ? new SoftReference<>(def) : def;
+			if (definitions.compareAndSet(id, current, value))
+			{
+				if (generation == this.generation)
+				{
+					return def;
+				}
+
+				// cleared while decoding, so decode again
+				definitions.compareAndSet(id, value, null);
+			}
+		}
+	}
+
+	/**
+	 * Drop all of the decoded definitions, so they are decoded again on next use
+	 */
+	synchronized void clear()
+	{
+		++generation;
+		for (int id = 0; id < definitions.length(); ++id)
+		{
+			definitions.set(id, null);
+		}
+	}
+
+	/**
+	 * Get all of the definitions, decoding any which have not been decoded yet
+	 */
+	List<T> getAll()
+	{
+		List<T> all = new ArrayList<>();
+		for (int id = 0; id < offsets.length; ++id)
+		{
+			T def = get(id);
+			if (def != null)
+			{
+				all.add(def);
+			}
+		}
+		return all;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T unwrap(Object value)
+	{
+		if (value instanceof SoftReference)
+		{
+			return ((SoftReference<T>) value).get();
+		}
+		return (T) value;
+	}
+}
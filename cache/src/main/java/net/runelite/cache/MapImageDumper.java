@@ -24,17 +24,26 @@
  */
 package net.runelite.cache;
 
+import com.google.common.base.Throwables;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -56,6 +65,8 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.io.InputStream;
 import net.runelite.cache.item.RSTextureProvider;
 import net.runelite.cache.models.JagexColor;
 import net.runelite.cache.region.Location;
@@ -78,6 +89,8 @@ public class MapImageDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
+	// labels whose anchor is further than this many pixels outside of an image are not drawn
+	private static final int LABEL_MARGIN = 256;
 
 	private static byte[][][] TILE_SHAPE_2D;
 
@@ -160,6 +173,9 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("tilesize").hasArg().desc("draw tiles of this many regions square").build());
+		options.addOption(Option.builder().longOpt("threads").hasArg().build());
+		options.addOption(Option.builder().longOpt("oldcachedir").hasArg().desc("only redraw the tiles which changed since this cache").build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -177,6 +193,16 @@ public class MapImageDumper
 		final String cacheDirectory = cmd.getOptionValue("cachedir");
 		final String xteaJSONPath = cmd.getOptionValue("xteapath");
 		final String outputDirectory = cmd.getOptionValue("outputdir");
+		final int tileSize = Integer.parseInt(cmd.getOptionValue("tilesize", "0"));
+		final int threads = Integer.parseInt(cmd.getOptionValue("threads", Integer.toString(Runtime.getRuntime().availableProcessors())));
+		final String oldCacheDirectory = cmd.getOptionValue("oldcachedir");
+
+		if (oldCacheDirectory != null && tileSize <= 0)
+		{
+			System.err.println("oldcachedir requires tilesize");
+			System.exit(-1);
+			return;
+		}
 
 		XteaKeyManager xteaKeyManager = new XteaKeyManager();
 		try (FileInputStream fin = new FileInputStream(xteaJSONPath))
@@ -195,8 +221,33 @@ public class MapImageDumper
 			MapImageDumper dumper = new MapImageDumper(store, xteaKeyManager);
 			dumper.load();
 
+			Collection<Integer> changedRegions = null;
+			if (oldCacheDirectory != null)
+			{
+				try (Store oldStore = new Store(new DiskStorage(new File(oldCacheDirectory), true)))
+				{
+					oldStore.load();
+					changedRegions = RegionLoader.findChangedRegions(oldStore, store);
+				}
+				log.info("{} regions changed", changedRegions.size());
+			}
+
 			for (int i = 0; i < Region.Z; ++i)
 			{
+				if (changedRegions != null)
+				{
+					dumper.updateMapTiles(i, tileSize, threads, changedRegions, outDir);
+					log.info("Updated tiles for plane {}", i);
+					continue;
+				}
+
+				if (tileSize > 0)
+				{
+					dumper.writeMapTiles(i, tileSize, threads, outDir);
+					log.info("Wrote tiles for plane {}", i);
+					continue;
+				}
+
 				BufferedImage image = dumper.drawMap(i);
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
@@ -264,7 +315,219 @@ public class MapImageDumper
 		drawMap(image, z);
 		drawObjects(image, z);
 		drawMapIcons(image, z);
-		drawMapLabels(image, z);
+		drawMapLabels(image, z, regionLoader.getLowestX().getBaseX(), regionLoader.getHighestY().getBaseY());
+
+		return image;
+	}
+
+	/**
+	 * Receives tiles drawn by {@link #drawMapTiles(int, int, int, TileConsumer)}
+	 */
+	public interface TileConsumer
+	{
+		/**
+		 * @param tileX tile x, in units of tiles from the world origin
+		 * @param tileY tile y, in units of tiles from the world origin
+		 * @param image tile image
+		 */
+		void accept(int tileX, int tileY, BufferedImage image) throws IOException;
+	}
+
+	/**
+	 * Draw a plane as square tiles of regionsPerTile x regionsPerTile regions, drawing the
+	 * tiles in parallel. Tiles are passed to the consumer on the drawing threads as soon as they
+	 * are drawn, so only one tile per thread is held in memory at a time.
+	 *
+	 * @param z plane
+	 * @param regionsPerTile width and height of each tile in regions
+	 * @param threads number of threads to draw with
+	 * @param consumer tile consumer, which must be thread safe
+	 * @throws IOException if the consumer throws
+	 */
+	public void drawMapTiles(int z, int regionsPerTile, int threads, TileConsumer consumer) throws IOException
+	{
+		SortedSet<Integer> tiles = new TreeSet<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			tiles.add(packTile(region.getRegionX() / regionsPerTile, region.getRegionY() / regionsPerTile));
+		}
+
+		drawMapTiles(z, regionsPerTile, threads, tiles, consumer);
+	}
+
+	/**
+	 * Redraw only the tiles affected by a set of changed regions. A region affects its own tile
+	 * and the tiles of its 8 neighbors, since ground blending, objects and icons bleed across
+	 * region borders.
+	 *
+	 * @param z plane
+	 * @param regionsPerTile width and height of each tile in regions
+	 * @param threads number of threads to draw with
+	 * @param changedRegions ids of the changed regions, eg. from {@link RegionLoader#findChangedRegions(Store, Store)}
+	 * @param consumer tile consumer, which must be thread safe
+	 * @throws IOException if the consumer throws
+	 */
+	public void updateMapTiles(int z, int regionsPerTile, int threads, Collection<Integer> changedRegions, TileConsumer consumer) throws IOException
+	{
+		SortedSet<Integer> tiles = new TreeSet<>();
+		for (int regionId : changedRegions)
+		{
+			int regionX = regionId >> 8;
+			int regionY = regionId & 0xFF;
+			for (int dx = -1; dx <= 1; ++dx)
+			{
+				for (int dy = -1; dy <= 1; ++dy)
+				{
+					int x = regionX + dx;
+					int y = regionY + dy;
+					if (x >= 0 && y >= 0 && y <= 0xFF)
+					{
+						tiles.add(packTile(x / regionsPerTile, y / regionsPerTile));
+					}
+				}
+			}
+		}
+
+		drawMapTiles(z, regionsPerTile, threads, tiles, consumer);
+	}
+
+	private static int packTile(int tileX, int tileY)
+	{
+		return tileX << 16 | tileY;
+	}
+
+	private void drawMapTiles(int z, int regionsPerTile, int threads, SortedSet<Integer> tiles, TileConsumer consumer) throws IOException
+	{
+		if (TILE_SHAPE_2D == null)
+		{
+			// generate them up front since the lazy generation in drawMap is not thread safe
+			generateTileShapes();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>(tiles.size());
+			for (int tile : tiles)
+			{
+				int tileX = tile >>> 16;
+				int tileY = tile & 0xFFFF;
+				futures.add(executor.submit(() ->
+				{
+					consumer.accept(tileX, tileY, drawMapTile(z, tileX, tileY, regionsPerTile));
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new RuntimeException(ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Draw a plane as tiles, writing each tile to outDir/z/tileX_tileY.png
+	 */
+	public void writeMapTiles(int z, int regionsPerTile, int threads, File outDir) throws IOException
+	{
+		File planeDir = new File(outDir, Integer.toString(z));
+		planeDir.mkdirs();
+
+		drawMapTiles(z, regionsPerTile, threads, (tileX, tileY, image) ->
+			ImageIO.write(image, "png", new File(planeDir, tileX + "_" + tileY + ".png")));
+	}
+
+	/**
+	 * Redraw the tiles affected by a set of changed regions, overwriting them in outDir/z
+	 * as written by {@link #writeMapTiles(int, int, int, File)}. The regions per tile must be
+	 * the same as the tiles were originally written with.
+	 */
+	public void updateMapTiles(int z, int regionsPerTile, int threads, Collection<Integer> changedRegions, File outDir) throws IOException
+	{
+		File planeDir = new File(outDir, Integer.toString(z));
+		planeDir.mkdirs();
+
+		updateMapTiles(z, regionsPerTile, threads, changedRegions, (tileX, tileY, image) ->
+			ImageIO.write(image, "png", new File(planeDir, tileX + "_" + tileY + ".png")));
+	}
+
+	/**
+	 * Draw a single tile of regionsPerTile x regionsPerTile regions. The tile includes the
+	 * objects, icons and labels from neighboring regions which overlap it.
+	 *
+	 * @param z plane
+	 * @param tileX tile x, in units of tiles from the world origin
+	 * @param tileY tile y, in units of tiles from the world origin
+	 * @param regionsPerTile width and height of the tile in regions
+	 * @return the tile image
+	 */
+	public BufferedImage drawMapTile(int z, int tileX, int tileY, int regionsPerTile)
+	{
+		int pixels = regionsPerTile * Region.X * MAP_SCALE;
+		BufferedImage image = new BufferedImage(pixels, pixels, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		int minRegionX = tileX * regionsPerTile;
+		int minRegionY = tileY * regionsPerTile;
+		int maxRegionX = minRegionX + regionsPerTile - 1;
+		int maxRegionY = minRegionY + regionsPerTile - 1;
+
+		// the world coordinates of the left edge and of the base of the top row of regions,
+		// which correspond to the lowest x and highest y regions of the full map
+		int originX = minRegionX * Region.X;
+		int originY = maxRegionY * Region.Y;
+
+		// regions in the tile, and regions in or adjacent to it whose objects and icons may overlap it,
+		// kept in the same order as the full map draws them
+		List<Region> tileRegions = new ArrayList<>();
+		List<Region> nearbyRegions = new ArrayList<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			int rx = region.getRegionX();
+			int ry = region.getRegionY();
+			if (rx < minRegionX - 1 || rx > maxRegionX + 1 || ry < minRegionY - 1 || ry > maxRegionY + 1)
+			{
+				continue;
+			}
+
+			nearbyRegions.add(region);
+			if (rx >= minRegionX && rx <= maxRegionX && ry >= minRegionY && ry <= maxRegionY)
+			{
+				tileRegions.add(region);
+			}
+		}
+
+		for (Region region : tileRegions)
+		{
+			drawMap(image, region.getBaseX() - originX, originY - region.getBaseY(), z, region);
+		}
+
+		for (Region region : nearbyRegions)
+		{
+			drawObjects(image, region.getBaseX() - originX, originY - region.getBaseY(), region, z);
+		}
+
+		for (Region region : nearbyRegions)
+		{
+			drawMapIcons(image, region.getBaseX() - originX, originY - region.getBaseY(), region, z);
+		}
+
+		drawMapLabels(image, z, originX, originY);
 
 		return image;
 	}
@@ -1581,7 +1844,7 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawMapLabels(BufferedImage image, int z)
+	private void drawMapLabels(BufferedImage image, int z, int originX, int originY)
 	{
 		if (!renderLabels)
 		{
@@ -1599,6 +1862,14 @@ public class MapImageDumper
 				continue;
 			}
 
+			int drawX = worldPosition.getX() - originX;
+			int drawY = originY - worldPosition.getY() + Region.Y - 2;
+			if (drawX * MAP_SCALE < -LABEL_MARGIN || drawX * MAP_SCALE > image.getWidth() + LABEL_MARGIN
+				|| drawY * MAP_SCALE < -LABEL_MARGIN || drawY * MAP_SCALE > image.getHeight() + LABEL_MARGIN)
+			{
+				continue;
+			}
+
 			FontName fontSize = fontSizes[area.getTextScale()];
 			FontDefinition font = fonts.findFontByName(fontSize.getName());
 			String areaLabel = area.getName();
@@ -1615,8 +1886,6 @@ public class MapImageDumper
 					SpriteDefinition sprite = sprites.findSpriteByArchiveName(fontSize.getName(), c);
 					if (sprite.getWidth() != 0 && sprite.getHeight() != 0)
 					{
-						int drawX = worldPosition.getX() - regionLoader.getLowestX().getBaseX();
-						int drawY = regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2;
 						blitGlyph(image,
 							(drawX * MAP_SCALE) + advance - (stringWidth / 2),
 							(drawY * MAP_SCALE) + ascent - (font.getAscent() / 2),
@@ -1788,7 +2057,7 @@ public class MapImageDumper
 		for (FSFile file : files.getFiles())
 		{
 			UnderlayLoader loader = new UnderlayLoader();
-			UnderlayDefinition underlay = loader.load(file.getFileId(), file.getContents());
+			UnderlayDefinition underlay = loader.load(file.getFileId(), new InputStream(file.getContentsBuffer()));
 
 			underlays.put(underlay.getId(), underlay);
 		}
@@ -1811,7 +2080,7 @@ public class MapImageDumper
 		for (FSFile file : files.getFiles())
 		{
 			OverlayLoader loader = new OverlayLoader();
-			OverlayDefinition overlay = loader.load(file.getFileId(), file.getContents());
+			OverlayDefinition overlay = loader.load(file.getFileId(), new InputStream(file.getContentsBuffer()));
 
 			overlays.put(overlay.getId(), overlay);
 		}
@@ -1842,7 +2111,11 @@ public class MapImageDumper
 
 	private void blitIcon(BufferedImage dst, int x, int y, SpriteDefinition sprite, float scale)
 	{
-		sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		// sprites are shared between the tile drawing threads
+		synchronized (sprite)
+		{
+			sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		}
 		x += sprite.getOffsetX();
 		y += sprite.getOffsetY();
 		int displayHeight = (int) (sprite.getHeight() * scale);
@@ -1904,24 +2177,31 @@ public class MapImageDumper
 
 	private void blitGlyph(BufferedImage dst, int x, int y, int color, SpriteDefinition glyph)
 	{
+		// color a copy of the glyph, as the glyph sprites are shared between the tile drawing threads
 		int[] pixels = glyph.getPixels();
+		int[] colorPixels = new int[pixels.length];
 		int[] shadowPixels = new int[pixels.length];
 		for (int i = 0; i < pixels.length; ++i)
 		{
 			if (pixels[i] != 0)
 			{
-				pixels[i] = color;
+				colorPixels[i] = color;
 				shadowPixels[i] = 0xFF000000;
 			}
 		}
-		SpriteDefinition shadow = new SpriteDefinition();
-		shadow.setPixels(shadowPixels);
-		shadow.setOffsetX(glyph.getOffsetX());
-		shadow.setOffsetY(glyph.getOffsetY());
-		shadow.setWidth(glyph.getWidth());
-		shadow.setHeight(glyph.getHeight());
 
-		blitGlyphIcon(dst, x + 1, y + 1, shadow);
-		blitGlyphIcon(dst, x, y, glyph);
+		blitGlyphIcon(dst, x + 1, y + 1, copyGlyph(glyph, shadowPixels));
+		blitGlyphIcon(dst, x, y, copyGlyph(glyph, colorPixels));
+	}
+
+	private static SpriteDefinition copyGlyph(SpriteDefinition glyph, int[] pixels)
+	{
+		SpriteDefinition copy = new SpriteDefinition();
+		copy.setPixels(pixels);
+		copy.setOffsetX(glyph.getOffsetX());
+		copy.setOffsetY(glyph.getOffsetY());
+		copy.setWidth(glyph.getWidth());
+		copy.setHeight(glyph.getHeight());
+		return copy;
 	}
 }
@@ -39,12 +39,14 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 import net.runelite.cache.util.IDClass;
 
 public class NpcManager
 {
 	private final Store store;
 	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private LazyDefinitions<NpcDefinition> lazyNpcs;
 
 	public NpcManager(Store store)
 	{
@@ -54,6 +56,7 @@ public class NpcManager
 	public void load() throws IOException
 	{
 		NpcLoader loader = new NpcLoader();
+		lazyNpcs = null;
 
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
@@ -66,18 +69,49 @@ public class NpcManager
 
 		for (FSFile f : files.getFiles())
 		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
+			NpcDefinition npc = loader.load(f.getFileId(), new InputStream(f.getContentsBuffer()));
 			npcs.put(f.getFileId(), npc);
 		}
 	}
 
+	/**
+	 * Load the npcs lazily. Only the npc archive is kept in memory, and each npc
+	 * is decoded on its first {@link #get(int)}.
+	 *
+	 * @param softReferences hold the decoded npcs with soft references, so they can
+	 * be evicted and decoded again if memory runs low
+	 */
+	public void loadLazy(boolean softReferences) throws IOException
+	{
+		NpcLoader loader = new NpcLoader();
+
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.NPC.getId());
+
+		loader.configureForRevision(archive.getRevision());
+
+		npcs.clear();
+		lazyNpcs = LazyDefinitions.load(store.getStorage(), archive, softReferences, loader::load);
+	}
+
+	/**
+	 * Get all of the npcs. When loaded lazily this decodes every npc.
+	 */
 	public Collection<NpcDefinition> getNpcs()
 	{
+		if (lazyNpcs != null)
+		{
+			return Collections.unmodifiableCollection(lazyNpcs.getAll());
+		}
 		return Collections.unmodifiableCollection(npcs.values());
 	}
 
 	public NpcDefinition get(int npcId)
 	{
+		if (lazyNpcs != null)
+		{
+			return lazyNpcs.get(npcId);
+		}
 		return npcs.get(npcId);
 	}
 
@@ -85,7 +119,7 @@ public class NpcManager
 	{
 		out.mkdirs();
 
-		for (NpcDefinition def : npcs.values())
+		for (NpcDefinition def : getNpcs())
 		{
 			NpcExporter exporter = new NpcExporter(def);
 
@@ -100,7 +134,7 @@ public class NpcManager
 		try (IDClass ids = IDClass.create(java, "NpcID");
 			IDClass nulls = IDClass.create(java, "NullNpcID"))
 		{
-			for (NpcDefinition def : npcs.values())
+			for (NpcDefinition def : getNpcs())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
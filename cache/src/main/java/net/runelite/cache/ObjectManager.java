@@ -39,12 +39,14 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 import net.runelite.cache.util.IDClass;
 
 public class ObjectManager
 {
 	private final Store store;
 	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private LazyDefinitions<ObjectDefinition> lazyObjects;
 
 	public ObjectManager(Store store)
 	{
@@ -54,6 +56,7 @@ public class ObjectManager
 	public void load() throws IOException
 	{
 		ObjectLoader loader = new ObjectLoader();
+		lazyObjects = null;
 
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
@@ -66,18 +69,49 @@ public class ObjectManager
 
 		for (FSFile f : files.getFiles())
 		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
+			ObjectDefinition def = loader.load(f.getFileId(), new InputStream(f.getContentsBuffer()));
 			objects.put(f.getFileId(), def);
 		}
 	}
 
+	/**
+	 * Load the objects lazily. Only the object archive is kept in memory, and each object
+	 * is decoded on its first {@link #getObject(int)}.
+	 *
+	 * @param softReferences hold the decoded objects with soft references, so they can
+	 * be evicted and decoded again if memory runs low
+	 */
+	public void loadLazy(boolean softReferences) throws IOException
+	{
+		ObjectLoader loader = new ObjectLoader();
+
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
+
+		loader.configureForRevision(archive.getRevision());
+
+		objects.clear();
+		lazyObjects = LazyDefinitions.load(store.getStorage(), archive, softReferences, loader::load);
+	}
+
+	/**
+	 * Get all of the objects. When loaded lazily this decodes every object.
+	 */
 	public Collection<ObjectDefinition> getObjects()
 	{
+		if (lazyObjects != null)
+		{
+			return Collections.unmodifiableCollection(lazyObjects.getAll());
+		}
 		return Collections.unmodifiableCollection(objects.values());
 	}
 
 	public ObjectDefinition getObject(int id)
 	{
+		if (lazyObjects != null)
+		{
+			return lazyObjects.get(id);
+		}
 		return objects.get(id);
 	}
 
@@ -85,7 +119,7 @@ public class ObjectManager
 	{
 		out.mkdirs();
 
-		for (ObjectDefinition def : objects.values())
+		for (ObjectDefinition def : getObjects())
 		{
 			ObjectExporter exporter = new ObjectExporter(def);
 
@@ -100,7 +134,7 @@ public class ObjectManager
 		try (IDClass ids = IDClass.create(java, "ObjectID");
 			IDClass nulls = IDClass.create(java, "NullObjectID"))
 		{
-			for (ObjectDefinition def : objects.values())
+			for (ObjectDefinition def : getObjects())
 			{
 				if ("null".equals(def.getName()))
 				{
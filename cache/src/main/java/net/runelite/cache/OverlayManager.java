@@ -38,6 +38,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 
 public class OverlayManager implements OverlayProvider
 {
@@ -61,7 +62,7 @@ public class OverlayManager implements OverlayProvider
 		for (FSFile file : files.getFiles())
 		{
 			OverlayLoader loader = new OverlayLoader();
-			OverlayDefinition overlay = loader.load(file.getFileId(), file.getContents());
+			OverlayDefinition overlay = loader.load(file.getFileId(), new InputStream(file.getContentsBuffer()));
 
 			overlays.put(overlay.getId(), overlay);
 		}
@@ -37,6 +37,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 
 public class StructManager implements StructProvider
 {
@@ -61,7 +62,7 @@ public class StructManager implements StructProvider
 
 		for (FSFile f : files.getFiles())
 		{
-			StructDefinition def = loader.load(f.getFileId(), f.getContents());
+			StructDefinition def = loader.load(f.getFileId(), new InputStream(f.getContentsBuffer()));
 			structs.put(f.getFileId(), def);
 		}
 	}
@@ -36,6 +36,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 
 public class TextureManager implements TextureProvider
 {
@@ -60,7 +61,7 @@ public class TextureManager implements TextureProvider
 
 		for (FSFile file : files.getFiles())
 		{
-			TextureDefinition texture = loader.load(file.getFileId(), file.getContents());
+			TextureDefinition texture = loader.load(file.getFileId(), new InputStream(file.getContentsBuffer()));
 			textures.add(texture);
 		}
 	}
@@ -38,6 +38,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.io.InputStream;
 
 public class UnderlayManager implements UnderlayProvider
 {
@@ -61,7 +62,7 @@ public class UnderlayManager implements UnderlayProvider
 		for (FSFile file : files.getFiles())
 		{
 			UnderlayLoader loader = new UnderlayLoader();
-			UnderlayDefinition underlay = loader.load(file.getFileId(), file.getContents());
+			UnderlayDefinition underlay = loader.load(file.getFileId(), new InputStream(file.getContentsBuffer()));
 
 			underlays.put(underlay.getId(), underlay);
 		}
@@ -24,16 +24,333 @@
  */
 package net.runelite.cache.definitions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.Data;
+import lombok.ToString;
 import net.runelite.cache.util.BaseVarType;
 
 @Data
 public class DBTableIndex
 {
+	private static final int[] NO_ROWS = new int[0];
+
 	private final int tableId;
 	private final int columnId;
 	private BaseVarType[] tupleTypes;
-	private List<Map<Object, List<Integer>>> tupleIndexes;
+	private Tuple[] tuples;
+	// the boxed tuple indexes, built on first use
+	@ToString.Exclude
+	private transient volatile List<Map<Object, List<Integer>>> tupleIndexes;
+
+	/**
+	 * The rows of the table having each value of one tuple element of the column. Integer values are
+	 * kept sorted in a primitive array and binary searched, so they are looked up without boxing.
+	 */
+	public static final class Tuple
+	{
+		private final BaseVarType type;
+		// sorted values and the rows having them, for integer tuples
+		private final int[] intValues;
+		private final int[][] intRows;
+		// rows by value, for all other tuples
+		private final Map<Object, int[]> objectRows;
+
+		/**
+		 * Create an integer tuple
+		 *
+		 * @param values the values, in any order
+		 * @param rows the row ids having each value
+		 */
+		public Tuple(int[] values, int[][] rows)
+		{
+			long[] order = new long[values.length];
+			for (int i = 0; i < values.length; ++i)
+			{
+				order[i] = (long) values[i] << 32 | i;
+			}
+			Arrays.sort(order);
+
+			this.type = BaseVarType.INTEGER;
+			this.intValues = new int[values.length];
+			this.intRows = new int[values.length][];
+			this.objectRows = null;
+			for (int i = 0; i < order.length; ++i)
+			{
+				intValues[i] = (int) (order[i] >> 32);
+				intRows[i] = rows[(int) order[i]];
+			}
+		}
+
+		/**
+		 * Create a tuple of a non integer type
+		 *
+		 * @param type the type of the values
+		 * @param rows the row ids having each value
+		 */
+		public Tuple(BaseVarType type, Map<Object, int[]> rows)
+		{
+			this.type = type;
+			this.intValues = null;
+			this.intRows = null;
+			this.objectRows = rows;
+		}
+
+		/**
+		 * Create a tuple from a map of values to row ids
+		 *
+		 * @param type the type of the values, or null to treat a map of only integer values as integers
+		 * @param rows the row ids having each value
+		 */
+		static Tuple fromMap(BaseVarType type, Map<Object, List<Integer>> rows)
+		{
+			if (type == BaseVarType.INTEGER || (type == null && rows.keySet().stream().allMatch(Integer.class::isInstance)))
+			{
+				int[] values = new int[rows.size()];
+				int[][] valueRows = new int[rows.size()][];
+				int i = 0;
+				for (Map.Entry<Object, List<Integer>> entry : rows.entrySet())
+				{
+					values[i] = (Integer) entry.getKey();
+					valueRows[i++] = toArray(entry.getValue());
+				}
+				return new Tuple(values, valueRows);
+			}
+
+			Map<Object, int[]> objectRows = new HashMap<>(rows.size());
+			for (Map.Entry<Object, List<Integer>> entry : rows.entrySet())
+			{
+				objectRows.put(entry.getKey(), toArray(entry.getValue()));
+			}
+			return new Tuple(type, objectRows);
+		}
+
+		public BaseVarType getType()
+		{
+			return type;
+		}
+
+		/**
+		 * Get the rows having an integer value. The returned array must not be modified.
+		 *
+		 * @return the row ids, or an empty array if no rows have the value
+		 */
+		public int[] getRowIds(int value)
+		{
+			if (intValues == null)
+			{
+				return NO_ROWS;
+			}
+
+			int idx = Arrays.binarySearch(intValues, value);
+			return idx < 0 ? NO_ROWS : intRows[idx];
+		}
+
+		/**
+		 * Get the rows having a value. The returned array must not be modified.
+		 *
+		 * @return the row ids, or an empty array if no rows have the value
+		 */
+		public int[] getRowIds(Object value)
+		{
+			if (intValues != null)
+			{
+				return value instanceof Integer ? getRowIds((int) value) : NO_ROWS;
+			}
+
+			int[] rows = objectRows.get(value);
+			return rows == null ? NO_ROWS : rows;
+		}
+
+		Map<Object, List<Integer>> toMap()
+		{
+			Map<Object, List<Integer>> map = new HashMap<>();
+			if (intValues != null)
+			{
+				for (int i = 0; i < intValues.length; ++i)
+				{
+					map.put(intValues[i], toList(intRows[i]));
+				}
+			}
+			else
+			{
+				for (Map.Entry<Object, int[]> entry : objectRows.entrySet())
+				{
+					map.put(entry.getKey(), toList(entry.getValue()));
+				}
+			}
+			return map;
+		}
+
+		private static List<Integer> toList(int[] rows)
+		{
+			List<Integer> list = new ArrayList<>(rows.length);
+			for (int row : rows)
+			{
+				list.add(row);
+			}
+			return Collections.unmodifiableList(list);
+		}
+
+		private static int[] toArray(List<Integer> rows)
+		{
+			int[] array = new int[rows.size()];
+			for (int i = 0; i < array.length; ++i)
+			{
+				array[i] = rows.get(i);
+			}
+			return array;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (obj == this)
+			{
+				return true;
+			}
+			if (!(obj instanceof Tuple))
+			{
+				return false;
+			}
+
+			Tuple other = (Tuple) obj;
+			if (type != other.type
+				|| !Arrays.equals(intValues, other.intValues)
+				|| !Arrays.deepEquals(intRows, other.intRows))
+			{
+				return false;
+			}
+
+			if (objectRows == null || other.objectRows == null)
+			{
+				return objectRows == other.objectRows;
+			}
+
+			// the row arrays must be compared by value, which Map.equals does not do
+			if (objectRows.size() != other.objectRows.size())
+			{
+				return false;
+			}
+			for (Map.Entry<Object, int[]> entry : objectRows.entrySet())
+			{
+				if (!Arrays.equals(entry.getValue(), other.objectRows.get(entry.getKey())))
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			int hash = Objects.hashCode(type);
+			hash = hash * 31 + Arrays.hashCode(intValues);
+			hash = hash * 31 + Arrays.deepHashCode(intRows);
+			if (objectRows != null)
+			{
+				int rowsHash = 0;
+				for (Map.Entry<Object, int[]> entry : objectRows.entrySet())
+				{
+					rowsHash += Objects.hashCode(entry.getKey()) ^ Arrays.hashCode(entry.getValue());
+				}
+				hash = hash * 31 + rowsHash;
+			}
+			return hash;
+		}
+	}
+
+	public void setTuples(Tuple[] tuples)
+	{
+		this.tuples = tuples;
+		this.tupleIndexes = null;
+	}
+
+	/**
+	 * Get the rows having a value of a tuple element. The returned array must not be modified.
+	 *
+	 * @param tuple the tuple element
+	 * @param value the value
+	 * @return the row ids, or an empty array if no rows have the value
+	 */
+	public int[] getRowIds(int tuple, int value)
+	{
+		if (tuples == null || tuple < 0 || tuple >= tuples.length)
+		{
+			return NO_ROWS;
+		}
+		return tuples[tuple].getRowIds(value);
+	}
+
+	/**
+	 * Get the rows having a value of a tuple element. The returned array must not be modified.
+	 *
+	 * @param tuple the tuple element
+	 * @param value the value
+	 * @return the row ids, or an empty array if no rows have the value
+	 */
+	public int[] getRowIds(int tuple, Object value)
+	{
+		if (tuples == null || tuple < 0 || tuple >= tuples.length)
+		{
+			return NO_ROWS;
+		}
+		return tuples[tuple].getRowIds(value);
+	}
+
+	/**
+	 * Get the rows having each value, by tuple element. The maps box every value and row id, so they
+	 * are built on first use and are not modifiable. Prefer {@link #getRowIds(int, int)} for lookups.
+	 */
+	public List<Map<Object, List<Integer>>> getTupleIndexes()
+	{
+		List<Map<Object, List<Integer>>> tupleIndexes = this.tupleIndexes;
+		if (tupleIndexes != null)
+		{
+			return tupleIndexes;
+		}
+
+		if (tuples == null)
+		{
+			return Collections.emptyList();
+		}
+
+		tupleIndexes = new ArrayList<>(tuples.length);
+		for (Tuple tuple : tuples)
+		{
+			tupleIndexes.add(Collections.unmodifiableMap(tuple.toMap()));
+		}
+		tupleIndexes = Collections.unmodifiableList(tupleIndexes);
+		this.tupleIndexes = tupleIndexes;
+		return tupleIndexes;
+	}
+
+	/**
+	 * Set the rows having each value, by tuple element
+	 *
+	 * @deprecated the index is kept as {@link Tuple}s, use {@link #setTuples(Tuple[])}
+	 */
+	@Deprecated
+	public void setTupleIndexes(List<Map<Object, List<Integer>>> tupleIndexes)
+	{
+		if (tupleIndexes == null)
+		{
+			setTuples(null);
+			return;
+		}
+
+		Tuple[] tuples = new Tuple[tupleIndexes.size()];
+		for (int i = 0; i < tuples.length; ++i)
+		{
+			BaseVarType type = tupleTypes != null && i < tupleTypes.length ? tupleTypes[i] : null;
+			tuples[i] = Tuple.fromMap(type, tupleIndexes.get(i));
+		}
+		setTuples(tuples);
+	}
 }
@@ -31,7 +31,11 @@ public class AreaLoader
 {
 	public AreaDefinition load(byte[] b, int id)
 	{
-		InputStream in = new InputStream(b);
+		return load(new InputStream(b), id);
+	}
+
+	public AreaDefinition load(InputStream in, int id)
+	{
 		AreaDefinition def = new AreaDefinition();
 		def.id = id;
 
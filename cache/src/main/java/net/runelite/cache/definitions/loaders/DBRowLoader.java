@@ -33,9 +33,13 @@ import net.runelite.cache.util.ScriptVarType;
 public class DBRowLoader
 {
 	public DBRowDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public DBRowDefinition load(int id, InputStream is)
 	{
 		DBRowDefinition def = new DBRowDefinition(id);
-		InputStream is = new InputStream(b);
 
 		while (true)
 		{
@@ -24,9 +24,7 @@
  */
 package net.runelite.cache.definitions.loaders;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import net.runelite.cache.definitions.DBTableIndex;
 import net.runelite.cache.io.InputStream;
@@ -46,35 +44,52 @@ public class DBTableIndexLoader
 	{
 		int tupleSize = stream.readVarInt2();
 		BaseVarType[] tupleTypes = new BaseVarType[tupleSize];
-		List<Map<Object, List<Integer>>> tupleIndexes = new ArrayList<>(tupleSize);
+		DBTableIndex.Tuple[] tuples = new DBTableIndex.Tuple[tupleSize];
 
 		for (int i = 0; i < tupleSize; i++)
 		{
 			tupleTypes[i] = BaseVarType.forId(stream.readUnsignedByte());
 
 			int valueCount = stream.readVarInt2();
-			Map<Object, List<Integer>> valueToRows = new HashMap<>(valueCount);
-
-			while (valueCount-- > 0)
+			if (tupleTypes[i] == BaseVarType.INTEGER)
 			{
-				Object value = decodeValue(tupleTypes[i], stream);
-
-				int rowCount = stream.readVarInt2();
-				List<Integer> rowIds = new ArrayList<>(rowCount);
+				int[] values = new int[valueCount];
+				int[][] rows = new int[valueCount][];
 
-				while (rowCount-- > 0)
+				for (int j = 0; j < valueCount; j++)
 				{
-					rowIds.add(stream.readVarInt2());
+					values[j] = stream.readInt();
+					rows[j] = decodeRows(stream);
 				}
 
-				valueToRows.put(value, rowIds);
+				tuples[i] = new DBTableIndex.Tuple(values, rows);
 			}
+			else
+			{
+				Map<Object, int[]> valueToRows = new HashMap<>(valueCount);
+
+				while (valueCount-- > 0)
+				{
+					Object value = decodeValue(tupleTypes[i], stream);
+					valueToRows.put(value, decodeRows(stream));
+				}
 
-			tupleIndexes.add(i, valueToRows);
+				tuples[i] = new DBTableIndex.Tuple(tupleTypes[i], valueToRows);
+			}
 		}
 
 		index.setTupleTypes(tupleTypes);
-		index.setTupleIndexes(tupleIndexes);
+		index.setTuples(tuples);
+	}
+
+	private static int[] decodeRows(InputStream stream)
+	{
+		int[] rowIds = new int[stream.readVarInt2()];
+		for (int i = 0; i < rowIds.length; i++)
+		{
+			rowIds[i] = stream.readVarInt2();
+		}
+		return rowIds;
 	}
 
 	private static Object decodeValue(BaseVarType baseType, InputStream stream)
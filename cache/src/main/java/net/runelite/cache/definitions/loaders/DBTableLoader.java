@@ -33,9 +33,13 @@ import net.runelite.cache.util.ScriptVarType;
 public class DBTableLoader
 {
 	public DBTableDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public DBTableDefinition load(int id, InputStream is)
 	{
 		DBTableDefinition def = new DBTableDefinition(id);
-		InputStream is = new InputStream(b);
 
 		while (true)
 		{
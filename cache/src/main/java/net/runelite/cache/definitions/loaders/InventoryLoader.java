@@ -30,10 +30,14 @@ import net.runelite.cache.io.InputStream;
 public class InventoryLoader
 {
 	public InventoryDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public InventoryDefinition load(int id, InputStream is)
 	{
 		InventoryDefinition def = new InventoryDefinition();
 		def.id = id;
-		InputStream is = new InputStream(b);
 
 		while (true)
 		{
@@ -48,9 +48,13 @@ public class NpcLoader
 	}
 
 	public NpcDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public NpcDefinition load(int id, InputStream is)
 	{
 		NpcDefinition def = new NpcDefinition(id);
-		InputStream is = new InputStream(b);
 
 		while (true)
 		{
@@ -34,9 +34,13 @@ public class OverlayLoader
 	private static final Logger logger = LoggerFactory.getLogger(OverlayLoader.class);
 
 	public OverlayDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public OverlayDefinition load(int id, InputStream is)
 	{
 		OverlayDefinition def = new OverlayDefinition();
-		InputStream is = new InputStream(b);
 
 		def.setId(id);
 
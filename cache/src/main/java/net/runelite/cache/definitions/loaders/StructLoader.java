@@ -31,9 +31,13 @@ import net.runelite.cache.io.InputStream;
 public class StructLoader
 {
 	public StructDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public StructDefinition load(int id, InputStream is)
 	{
 		StructDefinition def = new StructDefinition(id);
-		InputStream is = new InputStream(b);
 
 		while (true)
 		{
@@ -30,9 +30,13 @@ import net.runelite.cache.io.InputStream;
 public class TextureLoader
 {
 	public TextureDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public TextureDefinition load(int id, InputStream is)
 	{
 		TextureDefinition def = new TextureDefinition();
-		InputStream is = new InputStream(b);
 
 		def.field1777 = is.readUnsignedShort();
 		def.field1778 = is.readByte() != 0;
@@ -34,9 +34,13 @@ public class UnderlayLoader
 	private static final Logger logger = LoggerFactory.getLogger(UnderlayLoader.class);
 
 	public UnderlayDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	public UnderlayDefinition load(int id, InputStream is)
 	{
 		UnderlayDefinition def = new UnderlayDefinition();
-		InputStream is = new InputStream(b);
 
 		def.setId(id);
 
@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -43,7 +44,6 @@ public class Archive
 	@Getter
 	private final int archiveId;
 	@Getter
-	@Setter
 	private int nameHash;
 	@Getter
 	@Setter
@@ -70,6 +70,12 @@ public class Archive
 		this.archiveId = id;
 	}
 
+	public void setNameHash(int nameHash)
+	{
+		this.nameHash = nameHash;
+		index.invalidateNameIndex();
+	}
+
 	public byte[] decompress(byte[] data) throws IOException
 	{
 		return decompress(data, null);
@@ -91,8 +97,35 @@ public class Archive
 			return null;
 		}
 
-		byte[] decompressedData = container.data;
+		verify(container);
+		return container.data;
+	}
 
+	/**
+	 * Decompress the archive into the given buffer, advancing its position.
+	 *
+	 * @param data archive data
+	 * @param keys xtea keys, or null
+	 * @param out buffer to decompress into
+	 * @return the number of bytes written to the buffer, or -1 if data is null
+	 * @throws IOException
+	 * @see Container#decompress(byte[], int[], ByteBuffer)
+	 */
+	public int decompress(byte[] data, int[] keys, ByteBuffer out) throws IOException
+	{
+		if (data == null)
+		{
+			return -1;
+		}
+
+		int position = out.position();
+		Container container = Container.decompress(data, keys, out);
+		verify(container);
+		return out.position() - position;
+	}
+
+	private void verify(Container container) throws IOException
+	{
 		if (this.crc != container.crc)
 		{
 			logger.warn("crc mismatch for archive {}/{}", index.getId(), this.getArchiveId());
@@ -113,7 +146,6 @@ public class Archive
 		}
 
 		setCompression(container.compression);
-		return decompressedData;
 	}
 
 	public ArchiveFiles getFiles(byte[] data) throws IOException
@@ -25,10 +25,10 @@
 package net.runelite.cache.fs;
 
 import com.google.common.base.Preconditions;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
@@ -40,35 +40,95 @@ public class ArchiveFiles
 {
 	private static final Logger logger = LoggerFactory.getLogger(ArchiveFiles.class);
 
-	private final LinkedHashMap<Integer, FSFile> files = new LinkedHashMap<Integer, FSFile>();
+	private final List<FSFile> files = new ArrayList<>();
+	// open addressed table of file id to slot in files + 1, 0 is an empty entry
+	private int[] tableIds = new int[16];
+	private int[] tableSlots = new int[16];
 
 	public void addFile(FSFile file)
 	{
 		Preconditions.checkArgument(file.getFileId() != -1);
 
-		if (files.containsKey(file.getFileId()))
+		if (findSlot(file.getFileId()) != -1)
 		{
 			throw new IllegalStateException("duplicate file ids");
 		}
 
-		files.put(file.getFileId(), file);
+		files.add(file);
+		if (files.size() * 2 > tableIds.length)
+		{
+			rehash(tableIds.length << 1);
+		}
+		else
+		{
+			insert(file.getFileId(), files.size());
+		}
 	}
 
 	public Collection<FSFile> getFiles()
 	{
-		return Collections.unmodifiableCollection(files.values());
+		return Collections.unmodifiableList(files);
 	}
 
 	public FSFile findFile(int fileId)
 	{
-		return files.get(fileId);
+		int slot = findSlot(fileId);
+		return slot == -1 ? null : files.get(slot);
 	}
 
 	public void clear()
 	{
 		files.clear();
+		tableIds = new int[16];
+		tableSlots = new int[16];
+	}
+
+	private int findSlot(int fileId)
+	{
+		int mask = tableIds.length - 1;
+		for (int i = mix(fileId) & mask; tableSlots[i] != 0; i = (i + 1) & mask)
+		{
+			if (tableIds[i] == fileId)
+			{
+				return tableSlots[i] - 1;
+			}
+		}
+		return -1;
+	}
+
+	private void insert(int fileId, int slot)
+	{
+		int mask = tableIds.length - 1;
+		int i = mix(fileId) & mask;
+		while (tableSlots[i] != 0)
+		{
+			i = (i + 1) & mask;
+		}
+		tableIds[i] = fileId;
+		tableSlots[i] = slot;
 	}
 
+	private void rehash(int capacity)
+	{
+		tableIds = new int[capacity];
+		tableSlots = new int[capacity];
+		for (int i = 0; i < files.size(); ++i)
+		{
+			insert(files.get(i).getFileId(), i + 1);
+		}
+	}
+
+	private static int mix(int id)
+	{
+		id *= 0x9E3779B9;
+		return id ^ (id >>> 16);
+	}
+
+	/**
+	 * Split the decompressed archive data into the files. Files stored in a single
+	 * chunk are views of data, and are only copied out of it when their contents are
+	 * requested, so data must not be modified afterwards.
+	 */
 	public void loadContents(byte[] data)
 	{
 		logger.trace("Loading contents of archive ({} files)", files.size());
@@ -77,7 +137,7 @@ public class ArchiveFiles
 
 		if (files.size() == 1)
 		{
-			FSFile f = files.values().iterator().next();
+			FSFile f = files.get(0);
 			f.setContents(data);
 			return;
 		}
@@ -88,6 +148,22 @@ public class ArchiveFiles
 		stream.setOffset(stream.getLength() - 1);
 		int chunks = stream.readUnsignedByte();
 
+		if (chunks == 1)
+		{
+			// each file is contiguous, so the files can be views of the data
+			stream.setOffset(stream.getLength() - 1 - filesCount * 4);
+
+			int offset = 0;
+			int size = 0;
+			for (FSFile f : files)
+			{
+				size += stream.readInt();
+				f.setContents(data, offset, size);
+				offset += size;
+			}
+			return;
+		}
+
 		// -1 for chunks count + one int per file slot per chunk
 		stream.setOffset(stream.getLength() - 1 - chunks * filesCount * 4);
 		int[][] chunkSizes = new int[filesCount][chunks];
@@ -131,11 +207,9 @@ public class ArchiveFiles
 			}
 		}
 
-		Iterator<FSFile> iter = files.values().iterator();
 		for (int i = 0; i < filesCount; ++i)
 		{
-			FSFile f = iter.next();
-			f.setContents(fileContents[i]);
+			files.get(i).setContents(fileContents[i]);
 		}
 	}
 
@@ -147,15 +221,14 @@ public class ArchiveFiles
 
 		if (filesCount == 1)
 		{
-			FSFile file = files.values().iterator().next();
-			stream.writeBytes(file.getContents());
+			FSFile file = files.get(0);
+			file.writeContents(stream);
 		}
 		else
 		{
 			for (FSFile file : this.getFiles())
 			{
-				byte[] contents = file.getContents();
-				stream.writeBytes(contents);
+				file.writeContents(stream);
 			}
 
 			int offset = 0;
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.List;
+
+/**
+ * An open addressed table of archive name hash to archive. If multiple
+ * archives share a name hash, the first archive in the index is kept.
+ */
+final class ArchiveNameIndex
+{
+	private final int[] hashes;
+	private final Archive[] archives;
+	private final int mask;
+
+	ArchiveNameIndex(List<Archive> archiveList)
+	{
+		// keep the load factor at or below 0.5
+		int capacity = Integer.highestOneBit(Math.max(archiveList.size(), 1)) << 2;
+		hashes = new int[capacity];
+		archives = new Archive[capacity];
+		mask = capacity - 1;
+
+		for (Archive archive : archiveList)
+		{
+			int hash = archive.getNameHash();
+			int slot = mix(hash) & mask;
+			while (archives[slot] != null)
+			{
+				if (hashes[slot] == hash)
+				{
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+
+			if (archives[slot] == null)
+			{
+				hashes[slot] = hash;
+				archives[slot] = archive;
+			}
+		}
+	}
+
+	Archive get(int hash)
+	{
+		for (int slot = mix(hash) & mask; archives[slot] != null; slot = (slot + 1) & mask)
+		{
+			if (hashes[slot] == hash)
+			{
+				return archives[slot];
+			}
+		}
+		return null;
+	}
+
+	private static int mix(int hash)
+	{
+		// djb2 hashes of similar names differ mostly in the low bits, spread them out
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+}
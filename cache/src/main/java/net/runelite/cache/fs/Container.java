@@ -27,6 +27,8 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import net.runelite.cache.fs.jagex.CompressionType;
 import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
@@ -37,6 +39,20 @@ import net.runelite.cache.util.Xtea;
 
 public class Container
 {
+	// per thread scratch buffers for decrypting and for decompressing into direct buffers
+	private static final ThreadLocal<byte[]> DECRYPT_BUFFER = new ThreadLocal<>();
+	private static final ThreadLocal<byte[]> OUTPUT_BUFFER = new ThreadLocal<>();
+
+	// upper bounds of the decompressed length of valid data, so a length decrypted with
+	// the wrong keys does not allocate a huge buffer. deflate can not exceed 1032:1, bzip2
+	// can go much higher due to its initial run length encoding.
+	private static final int GZIP_MAX_RATIO = 1032;
+	private static final int BZIP2_MAX_RATIO = 1 << 17;
+	// bzip2 block header, and end of stream marker if there are no blocks
+	private static final byte[] BZIP2_BLOCK_MAGIC = {0x31, 0x41, 0x59, 0x26, 0x53, 0x59};
+	private static final byte[] BZIP2_EOS_MAGIC = {0x17, 0x72, 0x45, 0x38, 0x50, (byte) 0x90};
+	private static final int GZIP_MAGIC = 0x8b1f;
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -91,6 +107,23 @@ public class Container
 	}
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
+	{
+		return decompress(b, keys, null);
+	}
+
+	/**
+	 * Decompress a container into the given buffer, starting at the buffer's position.
+	 * The position is advanced past the decompressed data, and the data of the returned
+	 * container is null. If the buffer is null, a new array is allocated for the data instead.
+	 *
+	 * @param b container data, which is not modified
+	 * @param keys xtea keys, or null if the container is not encrypted
+	 * @param out buffer to decompress into, or null
+	 * @return the container
+	 * @throws IOException
+	 * @throws java.nio.BufferOverflowException if the decompressed data does not fit in the buffer
+	 */
+	public static Container decompress(byte[] b, int[] keys, ByteBuffer out) throws IOException
 	{
 		InputStream stream = new InputStream(b);
 
@@ -101,94 +134,186 @@ public class Container
 			throw new RuntimeException("Invalid data");
 		}
 
-		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
-
-		byte[] data;
-		int revision = -1;
+		byte[] compressedData = b;
+		int offset = 5;
+		int encryptedLength;
+		int decompressedLength;
 		switch (compression)
 		{
 			case CompressionType.NONE:
 			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				data = decryptedData;
-
+				encryptedLength = compressedLength;
+				decompressedLength = compressedLength;
 				break;
 			}
 			case CompressionType.BZ2:
+			case CompressionType.GZ:
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+				// the decompressed length is encrypted along with the compressed data
+				encryptedLength = compressedLength + 4;
+				if (b.length - 5 < encryptedLength)
+				{
+					throw new IOException("Container is truncated, expected " + encryptedLength + " bytes but have " + (b.length - 5));
+				}
 
-				if (stream.remaining() >= 2)
+				if (keys != null)
 				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
+					// decrypt a copy so the caller's buffer, which may be cached by the storage, is not modified
+					compressedData = scratch(DECRYPT_BUFFER, encryptedLength);
+					System.arraycopy(b, 5, compressedData, 0, encryptedLength);
+					offset = 0;
+					decrypt(compressedData, 0, encryptedLength, keys);
 				}
 
-				stream = new InputStream(decryptedData);
+				decompressedLength = Ints.fromBytes(compressedData[offset], compressedData[offset + 1],
+					compressedData[offset + 2], compressedData[offset + 3]);
+				offset += 4;
+				break;
+			}
+			default:
+				throw new RuntimeException("Unknown decompression type");
+		}
 
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+		if (decompressedLength < 0)
+		{
+			throw new IOException("Invalid decompressed length " + decompressedLength);
+		}
 
-				break;
+		// check the data before allocating for it, bad keys otherwise show up as a garbage length
+		if (compression == CompressionType.GZ)
+		{
+			if (compressedLength < 10 || ((compressedData[offset] & 0xFF) | (compressedData[offset + 1] & 0xFF) << 8) != GZIP_MAGIC)
+			{
+				throw new IOException("Invalid gzip header");
 			}
-			case CompressionType.GZ:
+			if (decompressedLength > (long) compressedLength * GZIP_MAX_RATIO)
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+				throw new IOException("Invalid decompressed length " + decompressedLength + " for " + compressedLength + " compressed bytes");
+			}
+		}
+		else if (compression == CompressionType.BZ2)
+		{
+			if (!startsWith(compressedData, offset, compressedLength, BZIP2_BLOCK_MAGIC)
+				&& !startsWith(compressedData, offset, compressedLength, BZIP2_EOS_MAGIC))
+			{
+				throw new IOException("Invalid bzip2 header");
+			}
+			if (decompressedLength > (long) compressedLength * BZIP2_MAX_RATIO)
+			{
+				throw new IOException("Invalid decompressed length " + decompressedLength + " for " + compressedLength + " compressed bytes");
+			}
+		}
 
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
+		byte[] data = null;
+		byte[] target;
+		int targetOffset;
+		if (out == null)
+		{
+			target = data = new byte[decompressedLength];
+			targetOffset = 0;
+		}
+		else if (out.remaining() < decompressedLength)
+		{
+			throw new BufferOverflowException();
+		}
+		else if (out.hasArray())
+		{
+			target = out.array();
+			targetOffset = out.arrayOffset() + out.position();
+		}
+		else
+		{
+			target = scratch(OUTPUT_BUFFER, decompressedLength);
+			targetOffset = 0;
+		}
 
-				stream = new InputStream(decryptedData);
+		int length;
+		switch (compression)
+		{
+			case CompressionType.NONE:
+				System.arraycopy(b, offset, target, targetOffset, compressedLength);
+				decrypt(target, targetOffset, compressedLength, keys);
+				length = compressedLength;
+				break;
+			case CompressionType.BZ2:
+				length = BZip2.decompress(compressedData, offset, compressedLength, target, targetOffset, decompressedLength);
+				break;
+			default:
+				length = GZip.decompress(compressedData, offset, compressedLength, target, targetOffset, decompressedLength);
+				break;
+		}
 
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+		if (length != decompressedLength)
+		{
+			throw new IOException("Decompressed " + length + " bytes, expected " + decompressedLength);
+		}
 
-				break;
+		if (out != null)
+		{
+			if (out.hasArray())
+			{
+				out.position(out.position() + length);
+			}
+			else
+			{
+				out.put(target, 0, length);
 			}
-			default:
-				throw new RuntimeException("Unknown decompression type");
 		}
 
+		stream.skip(encryptedLength);
+
+		int revision = -1;
+		if (stream.remaining() >= 2)
+		{
+			revision = stream.readUnsignedShort();
+			assert revision != -1;
+		}
+
+		Crc32 crc32 = new Crc32();
+		crc32.update(b, 0, 5 + encryptedLength); // compression + length + encrypted data
+
 		Container container = new Container(compression, revision);
 		container.data = data;
 		container.crc = crc32.getHash();
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static byte[] scratch(ThreadLocal<byte[]> local, int size)
+	{
+		byte[] buffer = local.get();
+		if (buffer == null || buffer.length < size)
+		{
+			buffer = new byte[size];
+			local.set(buffer);
+		}
+		return buffer;
+	}
+
+	private static boolean startsWith(byte[] data, int off, int len, byte[] prefix)
+	{
+		if (len < prefix.length)
+		{
+			return false;
+		}
+		for (int i = 0; i < prefix.length; ++i)
+		{
+			if (data[off + i] != prefix[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void decrypt(byte[] data, int off, int length, int[] keys)
 	{
 		if (keys == null)
 		{
-			return data;
+			return;
 		}
 
 		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+		xtea.decrypt(data, off, length);
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
@@ -25,9 +25,12 @@
 
 package net.runelite.cache.fs;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import net.runelite.cache.io.OutputStream;
 
 @EqualsAndHashCode(of = {"fileId", "nameHash", "contents"})
 public class FSFile
@@ -37,17 +40,83 @@ public class FSFile
 	@Getter
 	@Setter
 	private int nameHash;
-	@Getter
-	@Setter
 	private byte[] contents;
 
+	// a view of the contents in a shared buffer, copied into contents on first use
+	private byte[] buffer;
+	private int offset;
+	private int length;
+
 	public FSFile(int fileId)
 	{
 		this.fileId = fileId;
 	}
 
+	/**
+	 * Get the contents of the file. If the file is a view of a shared buffer, its
+	 * contents are copied out of the buffer first, since the caller may modify them.
+	 */
+	public byte[] getContents()
+	{
+		if (buffer != null)
+		{
+			contents = Arrays.copyOfRange(buffer, offset, offset + length);
+			buffer = null;
+		}
+		return contents;
+	}
+
+	/**
+	 * Get a read only buffer of the contents of the file, without copying them
+	 */
+	public ByteBuffer getContentsBuffer()
+	{
+		if (buffer != null)
+		{
+			return ByteBuffer.wrap(buffer, offset, length).slice().asReadOnlyBuffer();
+		}
+		return contents == null ? null : ByteBuffer.wrap(contents).asReadOnlyBuffer();
+	}
+
+	public void setContents(byte[] contents)
+	{
+		this.contents = contents;
+		this.buffer = null;
+	}
+
+	/**
+	 * Make the file a view of length bytes at offset in buffer. The buffer must not be modified.
+	 */
+	void setContents(byte[] buffer, int offset, int length)
+	{
+		this.contents = null;
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * @return whether the file is a view of a shared buffer, which has not been copied yet
+	 */
+	public boolean isView()
+	{
+		return buffer != null;
+	}
+
+	void writeContents(OutputStream stream)
+	{
+		if (buffer != null)
+		{
+			stream.writeBytes(buffer, offset, length);
+		}
+		else
+		{
+			stream.writeBytes(contents);
+		}
+	}
+
 	public int getSize()
 	{
-		return contents.length;
+		return buffer != null ? length : contents.length;
 	}
 }
@@ -61,6 +61,8 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	// lazily built lookup of archive name hash to archive, cleared when the archives change
+	private volatile ArchiveNameIndex nameIndex;
 
 	public Index(int id)
 	{
@@ -83,6 +85,7 @@ public class Index
 		idx = -idx - 1;
 		Archive archive = new Archive(this, id);
 		this.archives.add(idx, archive);
+		nameIndex = null;
 		return archive;
 	}
 
@@ -127,20 +130,24 @@ public class Index
 
 	public boolean removeArchive(Archive archive)
 	{
+		nameIndex = null;
 		return archives.remove(archive);
 	}
 
 	public Archive findArchiveByName(String name)
 	{
 		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+		ArchiveNameIndex nameIndex = this.nameIndex;
+		if (nameIndex == null)
 		{
-			if (a.getNameHash() == hash)
-			{
-				return a;
-			}
+			nameIndex = this.nameIndex = new ArchiveNameIndex(archives);
 		}
-		return null;
+		return nameIndex.get(hash);
+	}
+
+	void invalidateNameIndex()
+	{
+		nameIndex = null;
 	}
 
 	public IndexData toIndexData()
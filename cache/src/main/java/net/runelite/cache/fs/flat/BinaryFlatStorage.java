@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+
+/**
+ * A Storage that stores each index of the cache as a single binary file.
+ * <p>
+ * Each file starts with the index header and a directory of the archives
+ * sorted by archive id, followed by the file ids and name hashes of each
+ * archive, and then the archive contents. The files are memory mapped, so
+ * loading the store only reads the directories, and archive contents are
+ * read on demand.
+ */
+public class BinaryFlatStorage implements Storage
+{
+	protected static final String EXTENSION = ".flatbin";
+
+	private static final int MAGIC = 0x524c4643; // RLFC
+	private static final int VERSION = 1;
+
+	// magic, version, protocol, revision, compression, crc, named, sized, archive count
+	private static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 4 + 4 + 1 + 1 + 4;
+	private static final int HEADER_ARCHIVE_COUNT_OFFSET = 26;
+	// id, name hash, revision, crc, compression, file count, files offset, contents offset, contents length
+	private static final int ENTRY_SIZE = 4 + 4 + 4 + 4 + 4 + 4 + 8 + 8 + 4;
+	private static final int ENTRY_CONTENTS_OFFSET = 32;
+	private static final int FILE_SIZE = 4 + 4;
+
+	private final File directory;
+	private final Map<Integer, MappedByteBuffer> mappings = new HashMap<>();
+	// archives stored since the store was loaded
+	private final Map<Long, byte[]> data = new HashMap<>();
+
+	public BinaryFlatStorage(File directory)
+	{
+		this.directory = directory;
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		String[] idxs = directory.list((dir, name) -> name.endsWith(EXTENSION));
+		if (idxs == null)
+		{
+			throw new IOException("unable to list " + directory);
+		}
+
+		for (String idx : idxs)
+		{
+			int id = Integer.parseInt(idx.substring(0, idx.length() - EXTENSION.length()));
+			store.addIndex(id);
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		mappings.clear();
+		data.clear();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		for (Index idx : store.getIndexes())
+		{
+			File file = new File(directory, idx.getId() + EXTENSION);
+			MappedByteBuffer buffer = map(file);
+
+			if (buffer.getInt(0) != MAGIC)
+			{
+				throw new IOException("not a binary flatcache: " + file);
+			}
+
+			if (buffer.getInt(4) != VERSION)
+			{
+				throw new IOException("unsupported binary flatcache version " + buffer.getInt(4) + ": " + file);
+			}
+
+			idx.setProtocol(buffer.getInt(8));
+			idx.setRevision(buffer.getInt(12));
+			idx.setCompression(buffer.getInt(16));
+			idx.setCrc(buffer.getInt(20));
+			idx.setNamed(buffer.get(24) != 0);
+			idx.setSized(buffer.get(25) != 0);
+
+			int archiveCount = buffer.getInt(HEADER_ARCHIVE_COUNT_OFFSET);
+			for (int i = 0; i < archiveCount; ++i)
+			{
+				int pos = HEADER_SIZE + i * ENTRY_SIZE;
+
+				Archive archive = idx.addArchive(buffer.getInt(pos));
+				archive.setNameHash(buffer.getInt(pos + 4));
+				archive.setRevision(buffer.getInt(pos + 8));
+				archive.setCrc(buffer.getInt(pos + 12));
+				archive.setCompression(buffer.getInt(pos + 16));
+
+				int fileCount = buffer.getInt(pos + 20);
+				int filesOffset = (int) buffer.getLong(pos + 24);
+				FileData[] fileData = new FileData[fileCount];
+				for (int j = 0; j < fileCount; ++j)
+				{
+					FileData fd = fileData[j] = new FileData();
+					fd.setId(buffer.getInt(filesOffset + j * FILE_SIZE));
+					fd.setNameHash(buffer.getInt(filesOffset + j * FILE_SIZE + 4));
+				}
+				archive.setFileData(fileData);
+			}
+
+			mappings.put(idx.getId(), buffer);
+		}
+	}
+
+	private static MappedByteBuffer map(File file) throws IOException
+	{
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
+		{
+			FileChannel channel = raf.getChannel();
+			if (channel.size() > Integer.MAX_VALUE)
+			{
+				throw new IOException("binary flatcache is too large to map: " + file);
+			}
+
+			// the mapping remains valid after the channel is closed
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		store.getIndexes().sort(Comparator.comparingInt(Index::getId));
+		for (Index idx : store.getIndexes())
+		{
+			File file = new File(directory, idx.getId() + EXTENSION);
+			// write to a temporary file, as the contents may be being read from the current mapping of this index
+			File tmp = new File(directory, idx.getId() + EXTENSION + ".tmp");
+			write(store, idx, tmp);
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		if (store.getStorage() == this)
+		{
+			// the stored archives have now been written out, so switch to the new files
+			for (Index idx : store.getIndexes())
+			{
+				mappings.put(idx.getId(), map(new File(directory, idx.getId() + EXTENSION)));
+			}
+			data.clear();
+		}
+	}
+
+	private static void write(Store store, Index idx, File file) throws IOException
+	{
+		int archiveCount = idx.getArchives().size();
+		int fileCount = 0;
+		for (Archive archive : idx.getArchives())
+		{
+			fileCount += archive.getFileData().length;
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + archiveCount * ENTRY_SIZE + fileCount * FILE_SIZE);
+		header.putInt(MAGIC);
+		header.putInt(VERSION);
+		header.putInt(idx.getProtocol());
+		header.putInt(idx.getRevision());
+		header.putInt(idx.getCompression());
+		header.putInt(idx.getCrc());
+		header.put((byte) (idx.isNamed() ? 1 : 0));
+		header.put((byte) (idx.isSized() ? 1 : 0));
+		header.putInt(archiveCount);
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(0L);
+			FileChannel channel = raf.getChannel();
+
+			int filesOffset = HEADER_SIZE + archiveCount * ENTRY_SIZE;
+			long contentsOffset = header.capacity();
+			for (Archive archive : idx.getArchives())
+			{
+				FileData[] fileData = archive.getFileData();
+				byte[] contents = store.getStorage().loadArchive(archive);
+
+				header.putInt(archive.getArchiveId());
+				header.putInt(archive.getNameHash());
+				header.putInt(archive.getRevision());
+				header.putInt(archive.getCrc());
+				header.putInt(archive.getCompression());
+				header.putInt(fileData.length);
+				header.putLong(filesOffset);
+				if (contents != null)
+				{
+					header.putLong(contentsOffset);
+					header.putInt(contents.length);
+
+					ByteBuffer buf = ByteBuffer.wrap(contents);
+					while (buf.hasRemaining())
+					{
+						channel.write(buf, contentsOffset + buf.position());
+					}
+					contentsOffset += contents.length;
+				}
+				else
+				{
+					header.putLong(0L);
+					header.putInt(-1);
+				}
+
+				for (int i = 0; i < fileData.length; ++i)
+				{
+					header.putInt(filesOffset + i * FILE_SIZE, fileData[i].getId());
+					header.putInt(filesOffset + i * FILE_SIZE + 4, fileData[i].getNameHash());
+				}
+				filesOffset += fileData.length * FILE_SIZE;
+			}
+
+			header.clear();
+			while (header.hasRemaining())
+			{
+				channel.write(header, header.position());
+			}
+		}
+	}
+
+	@Override
+	public byte[] load(int index, int archive)
+	{
+		byte[] stored = data.get((long) index << 32 | archive);
+		if (stored != null)
+		{
+			return stored;
+		}
+
+		MappedByteBuffer buffer = mappings.get(index);
+		if (buffer == null)
+		{
+			return null;
+		}
+
+		int entry = findEntry(buffer, archive);
+		if (entry < 0)
+		{
+			return null;
+		}
+
+		long offset = buffer.getLong(entry + ENTRY_CONTENTS_OFFSET);
+		int length = buffer.getInt(entry + ENTRY_CONTENTS_OFFSET + 8);
+		if (length < 0)
+		{
+			return null;
+		}
+
+		// duplicate so that concurrent loads do not share a position
+		ByteBuffer view = buffer.duplicate();
+		view.position((int) offset);
+		byte[] contents = new byte[length];
+		view.get(contents);
+		return contents;
+	}
+
+	private static int findEntry(ByteBuffer buffer, int archive)
+	{
+		int low = 0;
+		int high = buffer.getInt(HEADER_ARCHIVE_COUNT_OFFSET) - 1;
+
+		while (low <= high)
+		{
+			int mid = (low + high) >>> 1;
+			int pos = HEADER_SIZE + mid * ENTRY_SIZE;
+
+			int cmp = Integer.compare(buffer.getInt(pos), archive);
+			if (cmp < 0)
+			{
+				low = mid + 1;
+			}
+			else if (cmp > 0)
+			{
+				high = mid - 1;
+			}
+			else
+			{
+				return pos;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public void store(int index, int archive, byte[] bytes)
+	{
+		data.put((long) index << 32 | archive, bytes);
+	}
+}
@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,12 +40,55 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	/**
+	 * number of sectors per mapped segment. Segments are a whole number of
+	 * sectors so that a sector never spans two mappings.
+	 */
+	private static final int SECTORS_PER_SEGMENT = 1 << 21;
+	private static final long SEGMENT_SIZE = (long) SECTOR_SIZE * SECTORS_PER_SEGMENT;
 
 	private final RandomAccessFile dat;
+	private final MappedByteBuffer[] segments;
+	private final long length;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.segments = null;
+		this.length = -1L;
+	}
+
+	/**
+	 * Open a data file. In read only mode the file is memory mapped and
+	 * may be read concurrently from any number of threads without locking.
+	 *
+	 * @param file data file
+	 * @param readOnly whether to open the file read only
+	 * @throws IOException
+	 */
+	public DataFile(File file, boolean readOnly) throws IOException
+	{
+		this.dat = new RandomAccessFile(file, readOnly ? "r" : "rw");
+		if (!readOnly)
+		{
+			this.segments = null;
+			this.length = -1L;
+			return;
+		}
+
+		FileChannel channel = dat.getChannel();
+		this.length = channel.size();
+		this.segments = new MappedByteBuffer[(int) ((length + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+		for (int i = 0; i < segments.length; ++i)
+		{
+			long position = i * SEGMENT_SIZE;
+			segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, length - position));
+		}
+	}
+
+	public boolean isReadOnly()
+	{
+		return segments != null;
 	}
 
 	@Override
@@ -54,6 +99,11 @@ public class DataFile implements Closeable
 
 	public void clear() throws IOException
 	{
+		if (isReadOnly())
+		{
+			throw new IOException("data file is read only");
+		}
+
 		dat.setLength(0L);
 	}
 
@@ -66,7 +116,118 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (isReadOnly())
+		{
+			return readMapped(indexId, archiveId, sector, size);
+		}
+
+		return readFile(indexId, archiveId, sector, size);
+	}
+
+	private byte[] readMapped(int indexId, int archiveId, int sector, int size)
+	{
+		long sectorCount = length / SECTOR_SIZE;
+		if (sector <= 0L || sectorCount < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
+			return null;
+		}
+
+		byte[] data = new byte[size];
+		int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		// absolute bulk gets are not available until Java 13, so copy through a
+		// duplicate of the segment, which has its own position and is local to this read
+		ByteBuffer view = null;
+		int viewSegment = -1;
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			int segmentId = sector / SECTORS_PER_SEGMENT;
+			if (segmentId >= segments.length)
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			MappedByteBuffer segment = segments[segmentId];
+			int pos = (sector % SECTORS_PER_SEGMENT) * SECTOR_SIZE;
+
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			if (pos + headerSize + dataBlockSize > segment.limit())
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = ((segment.get(pos) & 0xFF) << 24)
+					| ((segment.get(pos + 1) & 0xFF) << 16)
+					| ((segment.get(pos + 2) & 0xFF) << 8)
+					| (segment.get(pos + 3) & 0xFF);
+				currentPart = ((segment.get(pos + 4) & 0xFF) << 8) + (segment.get(pos + 5) & 0xFF);
+				nextSector = ((segment.get(pos + 6) & 0xFF) << 16)
+					| ((segment.get(pos + 7) & 0xFF) << 8)
+					| (segment.get(pos + 8) & 0xFF);
+				currentIndex = segment.get(pos + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = ((segment.get(pos) & 0xFF) << 8)
+					| (segment.get(pos + 1) & 0xFF);
+				currentPart = ((segment.get(pos + 2) & 0xFF) << 8)
+					| (segment.get(pos + 3) & 0xFF);
+				nextSector = ((segment.get(pos + 4) & 0xFF) << 16)
+					| ((segment.get(pos + 5) & 0xFF) << 8)
+					| (segment.get(pos + 6) & 0xFF);
+				currentIndex = segment.get(pos + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (nextSector < 0 || sectorCount < (long) nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			if (viewSegment != segmentId)
+			{
+				view = segment.duplicate();
+				viewSegment = segmentId;
+			}
+
+			view.position(pos + headerSize);
+			view.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+
+	private synchronized byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -171,6 +332,11 @@ public class DataFile implements Closeable
 
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
+		if (isReadOnly())
+		{
+			throw new IOException("data file is read only");
+		}
+
 		int sector;
 		int startSector;
 
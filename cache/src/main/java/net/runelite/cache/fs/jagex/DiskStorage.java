@@ -47,17 +47,33 @@ public class DiskStorage implements Storage
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
+	private final boolean readOnly;
 
 	private final DataFile data;
 	private final IndexFile index255;
 	private final List<IndexFile> indexFiles = new ArrayList<>();
+	private boolean initialized;
 
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * Open a disk cache. A read only storage memory maps the cache files,
+	 * and archives may then be loaded concurrently once the store is initialized.
+	 *
+	 * @param folder cache folder
+	 * @param readOnly whether to open the cache read only
+	 * @throws IOException
+	 */
+	public DiskStorage(File folder, boolean readOnly) throws IOException
 	{
 		this.folder = folder;
+		this.readOnly = readOnly;
 
-		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
-		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT), readOnly);
+		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"), readOnly);
 	}
 
 	@Override
@@ -66,10 +82,18 @@ public class DiskStorage implements Storage
 		for (int i = 0; i < index255.getIndexCount(); ++i)
 		{
 			store.addIndex(i);
-			getIndex(i);
+
+			// a missing index file can't be created in read only mode, and
+			// is treated as an index without archives
+			if (!readOnly || new File(folder, MAIN_FILE_CACHE_IDX + i).exists())
+			{
+				getIndex(i);
+			}
 		}
 
-		assert store.getIndexes().size() == indexFiles.size();
+		initialized = true;
+
+		assert readOnly || store.getIndexes().size() == indexFiles.size();
 	}
 
 	@Override
@@ -83,7 +107,7 @@ public class DiskStorage implements Storage
 		}
 	}
 
-	private IndexFile getIndex(int i) throws FileNotFoundException
+	private IndexFile findIndexFile(int i)
 	{
 		if (i == 255)
 		{
@@ -98,7 +122,25 @@ public class DiskStorage implements Storage
 			}
 		}
 
-		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
+		return null;
+	}
+
+	private IndexFile getIndex(int i) throws IOException
+	{
+		IndexFile existing = findIndexFile(i);
+		if (existing != null)
+		{
+			return existing;
+		}
+
+		if (readOnly && initialized)
+		{
+			// the index files are all opened in init(), and must not be modified
+			// afterwards as they are read without synchronization
+			throw new FileNotFoundException("index " + i + " does not exist");
+		}
+
+		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i), readOnly);
 		indexFiles.add(indexFile);
 		return indexFile;
 	}
@@ -191,7 +233,12 @@ public class DiskStorage implements Storage
 	@Override
 	public byte[] load(int index, int archive) throws IOException
 	{
-		IndexFile indexFile = getIndex(index);
+		IndexFile indexFile = readOnly ? findIndexFile(index) : getIndex(index);
+		if (indexFile == null)
+		{
+			logger.debug("can't read archive {} from missing index {}", archive, index);
+			return null;
+		}
 
 		assert indexFile.getIndexFileId() == index;
 
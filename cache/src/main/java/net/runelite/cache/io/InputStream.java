@@ -46,6 +46,19 @@ public class InputStream extends java.io.InputStream
 		this.buffer = ByteBuffer.wrap(buffer);
 	}
 
+	/**
+	 * Read from a buffer, such as the contents of a file in a shared archive
+	 * buffer, without copying it. The stream starts at the position of the buffer.
+	 */
+	public InputStream(ByteBuffer buffer)
+	{
+		this.buffer = buffer;
+	}
+
+	/**
+	 * @return the array backing the stream, which is only available if the stream
+	 * was created from a byte array
+	 */
 	public byte[] getArray()
 	{
 		assert buffer.hasArray();
@@ -24,8 +24,18 @@
  */
 package net.runelite.cache.item;
 
+import com.google.common.base.Throwables;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.providers.ItemProvider;
@@ -38,18 +48,122 @@ import net.runelite.cache.models.VertexNormal;
 
 public class ItemSpriteFactory
 {
+	/**
+	 * Number of lit models each renderer keeps, so that stack variants and note templates
+	 * shared by many items are only built once
+	 */
+	private static final int MODEL_CACHE_SIZE = 256;
+
 	public static BufferedImage createSprite(ItemProvider itemProvider, ModelProvider modelProvider,
 		SpriteProvider spriteProvider, TextureProvider textureProvider,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+		RSTextureProvider rsTextureProvider = createTextureProvider(textureProvider, spriteProvider);
+		Renderer renderer = new Renderer(rsTextureProvider);
+		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, renderer,
 			itemId, quantity, border, shadowColor, noted);
 		return spritePixels == null ? null : spritePixels.toBufferedImage();
 	}
 
-	private static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
+	/**
+	 * Render a batch of item sprites in parallel. Textures are loaded once and shared between all
+	 * threads, and each thread reuses its own rasterizer and recently lit models.
+	 * <p>
+	 * The providers are called concurrently and must be thread safe. The model provider must
+	 * return a new definition for each call, as the definitions are modified while rendering.
+	 *
+	 * @return the sprites, in the same order as the requests. Sprites which can't be rendered are null.
+	 */
+	public static List<BufferedImage> createSprites(ItemProvider itemProvider, ModelProvider modelProvider,
 		SpriteProvider spriteProvider, TextureProvider textureProvider,
+		List<SpriteRequest> requests, int threads) throws IOException
+	{
+		RSTextureProvider rsTextureProvider = createTextureProvider(textureProvider, spriteProvider);
+		ThreadLocal<Renderer> renderers = ThreadLocal.withInitial(() -> new Renderer(rsTextureProvider));
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			List<Future<BufferedImage>> futures = new ArrayList<>(requests.size());
+			for (SpriteRequest request : requests)
+			{
+				futures.add(executor.submit(() ->
+				{
+					SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, renderers.get(),
+						request.getItemId(), request.getQuantity(), request.getBorder(), request.getShadowColor(),
+						request.isNoted());
+					return spritePixels == null ? null : spritePixels.toBufferedImage();
+				}));
+			}
+
+			List<BufferedImage> sprites = new ArrayList<>(futures.size());
+			for (Future<BufferedImage> future : futures)
+			{
+				sprites.add(future.get());
+			}
+			return sprites;
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new RuntimeException(ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	private static RSTextureProvider createTextureProvider(TextureProvider textureProvider, SpriteProvider spriteProvider)
+	{
+		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+		return rsTextureProvider;
+	}
+
+	/**
+	 * Per thread rendering state, which is released once the batch is done
+	 */
+	private static class Renderer
+	{
+		private final Graphics3D graphics;
+		private final Model.Buffers buffers = new Model.Buffers();
+		private final Map<Integer, Model> models = new LinkedHashMap<Integer, Model>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Model> eldest)
+			{
+				return size() > MODEL_CACHE_SIZE;
+			}
+		};
+
+		Renderer(RSTextureProvider rsTextureProvider)
+		{
+			graphics = new Graphics3D(rsTextureProvider);
+			graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
+		}
+
+		Model getModel(ModelProvider modelProvider, int itemId, ItemDefinition item) throws IOException
+		{
+			Model model = models.get(itemId);
+			if (model == null && !models.containsKey(itemId))
+			{
+				model = ItemSpriteFactory.getModel(modelProvider, item);
+				models.put(itemId, model);
+			}
+			return model;
+		}
+	}
+
+	private static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
+		Renderer renderer,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
@@ -69,11 +183,12 @@ public class ItemSpriteFactory
 
 			if (stackItemID != -1)
 			{
+				itemId = stackItemID;
 				item = itemProvider.provide(stackItemID);
 			}
 		}
 
-		Model itemModel = getModel(modelProvider, item);
+		Model itemModel = renderer.getModel(modelProvider, itemId, item);
 		if (itemModel == null)
 		{
 			return null;
@@ -82,7 +197,7 @@ public class ItemSpriteFactory
 		SpritePixels auxSpritePixels = null;
 		if (item.notedTemplate != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, renderer,
 				item.notedID, 10, 1, 0, true);
 			if (auxSpritePixels == null)
 			{
@@ -91,7 +206,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.boughtTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, renderer,
 				item.boughtId, quantity, border, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -100,7 +215,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.placeholderTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, renderer,
 				item.placeholderId, quantity, 0, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -108,12 +223,8 @@ public class ItemSpriteFactory
 			}
 		}
 
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
-
 		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
+		Graphics3D graphics = renderer.graphics;
 		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
 		graphics.reset();
 		graphics.setRasterClipping();
@@ -138,7 +249,7 @@ public class ItemSpriteFactory
 		int var18 = zoom2d * Graphics3D.COSINE[item.xan2d] >> 16;
 
 		itemModel.calculateBoundsCylinder();
-		itemModel.projectAndDraw(graphics, 0,
+		itemModel.projectAndDraw(graphics, renderer.buffers, 0,
 			item.yan2d,
 			item.zan2d,
 			item.xan2d,
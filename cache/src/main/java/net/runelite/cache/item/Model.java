@@ -26,20 +26,29 @@ package net.runelite.cache.item;
 
 class Model extends Renderable
 {
-	boolean[] faceClipped = new boolean[6500];
-	int[] modelViewportYs = new int[6500];
-	int[] modelViewportXs = new int[6500];
-	int[] modelViewportZs = new int[6500];
-	int[] modelLocalX = new int[6500];
-	int[] modelLocalY = new int[6500];
-	int[] modelLocalZ = new int[6500];
-	int[] distanceFaceCount = new int[6000];
-	int[][] facesByDistance = new int[6000][512];
-	int[] numOfPriority = new int[12];
-	int[][] orderedFaces = new int[12][2000];
-	int[] eq10 = new int[2000];
-	int[] eq11 = new int[2000];
-	int[] lt10 = new int[12];
+	/**
+	 * Scratch buffers used while drawing. The client shares these between all models, here they
+	 * are owned by each renderer so that sprites can be rendered in parallel without allocating
+	 * them for every model, and are released along with the renderer.
+	 */
+	static class Buffers
+	{
+		final boolean[] faceClipped = new boolean[6500];
+		final int[] modelViewportYs = new int[6500];
+		final int[] modelViewportXs = new int[6500];
+		final int[] modelViewportZs = new int[6500];
+		final int[] modelLocalX = new int[6500];
+		final int[] modelLocalY = new int[6500];
+		final int[] modelLocalZ = new int[6500];
+		final int[] distanceFaceCount = new int[6000];
+		final int[][] facesByDistance = new int[6000][512];
+		final int[] numOfPriority = new int[12];
+		final int[][] orderedFaces = new int[12][2000];
+		final int[] eq10 = new int[2000];
+		final int[] eq11 = new int[2000];
+		final int[] lt10 = new int[12];
+	}
+
 	static int[] Model_sine;
 	static int[] Model_cosine;
 	int verticesCount;
@@ -123,8 +132,16 @@ class Model extends Renderable
 		}
 	}
 
-	public final void projectAndDraw(Graphics3D graphics, int yzRotation, int xzRotation, int xyRotation, int orientation, int xOffset, int yOffset, int zOffset)
+	public final void projectAndDraw(Graphics3D graphics, Buffers buffers, int yzRotation, int xzRotation, int xyRotation, int orientation, int xOffset, int yOffset, int zOffset)
 	{
+		int[] modelViewportYs = buffers.modelViewportYs;
+		int[] modelViewportXs = buffers.modelViewportXs;
+		int[] modelViewportZs = buffers.modelViewportZs;
+		int[] modelLocalX = buffers.modelLocalX;
+		int[] modelLocalY = buffers.modelLocalY;
+		int[] modelLocalZ = buffers.modelLocalZ;
+		int[] distanceFaceCount = buffers.distanceFaceCount;
+
 		distanceFaceCount[0] = -1;
 		// (re?)Calculate magnitude as necessary
 		if (this.boundsType != 2 && this.boundsType != 1)
@@ -205,11 +222,23 @@ class Model extends Renderable
 			}
 		}
 
-		this.draw(graphics);
+		this.draw(graphics, buffers);
 	}
 
-	private void draw(Graphics3D graphics)
+	private void draw(Graphics3D graphics, Buffers buffers)
 	{
+		boolean[] faceClipped = buffers.faceClipped;
+		int[] modelViewportYs = buffers.modelViewportYs;
+		int[] modelViewportXs = buffers.modelViewportXs;
+		int[] modelViewportZs = buffers.modelViewportZs;
+		int[] distanceFaceCount = buffers.distanceFaceCount;
+		int[][] facesByDistance = buffers.facesByDistance;
+		int[] numOfPriority = buffers.numOfPriority;
+		int[][] orderedFaces = buffers.orderedFaces;
+		int[] eq10 = buffers.eq10;
+		int[] eq11 = buffers.eq11;
+		int[] lt10 = buffers.lt10;
+
 		if (this.diameter < 6000)
 		{
 			for (int var5 = 0; var5 < this.diameter; ++var5)
@@ -269,7 +298,7 @@ class Model extends Renderable
 
 						for (var9 = 0; var9 < var7; ++var9)
 						{
-							this.rasterFace(graphics, var8[var9]);
+							this.rasterFace(graphics, buffers, var8[var9]);
 						}
 					}
 				}
@@ -355,7 +384,7 @@ class Model extends Renderable
 				{
 					while (var14 == 0 && var9 > var26)
 					{
-						this.rasterFace(graphics, var28[var10++]);
+						this.rasterFace(graphics, buffers, var28[var10++]);
 						if (var10 == var11 && var28 != orderedFaces[11])
 						{
 							var10 = 0;
@@ -376,7 +405,7 @@ class Model extends Renderable
 
 					while (var14 == 3 && var9 > var7)
 					{
-						this.rasterFace(graphics, var28[var10++]);
+						this.rasterFace(graphics, buffers, var28[var10++]);
 						if (var10 == var11 && var28 != orderedFaces[11])
 						{
 							var10 = 0;
@@ -397,7 +426,7 @@ class Model extends Renderable
 
 					while (var14 == 5 && var9 > var27)
 					{
-						this.rasterFace(graphics, var28[var10++]);
+						this.rasterFace(graphics, buffers, var28[var10++]);
 						if (var10 == var11 && var28 != orderedFaces[11])
 						{
 							var10 = 0;
@@ -421,13 +450,13 @@ class Model extends Renderable
 
 					for (var17 = 0; var17 < var15; ++var17)
 					{
-						this.rasterFace(graphics, var30[var17]);
+						this.rasterFace(graphics, buffers, var30[var17]);
 					}
 				}
 
 				while (var9 != -1000)
 				{
-					this.rasterFace(graphics, var28[var10++]);
+					this.rasterFace(graphics, buffers, var28[var10++]);
 					if (var10 == var11 && var28 != orderedFaces[11])
 					{
 						var10 = 0;
@@ -450,8 +479,15 @@ class Model extends Renderable
 		}
 	}
 
-	private void rasterFace(Graphics3D graphics, int face)
+	private void rasterFace(Graphics3D graphics, Buffers buffers, int face)
 	{
+		boolean[] faceClipped = buffers.faceClipped;
+		int[] modelViewportYs = buffers.modelViewportYs;
+		int[] modelViewportXs = buffers.modelViewportXs;
+		int[] modelLocalX = buffers.modelLocalX;
+		int[] modelLocalY = buffers.modelLocalY;
+		int[] modelLocalZ = buffers.modelLocalZ;
+
 		int var2 = this.indices1[face];
 		int var3 = this.indices2[face];
 		int var4 = this.indices3[face];
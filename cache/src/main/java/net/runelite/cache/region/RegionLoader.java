@@ -25,9 +25,16 @@
 package net.runelite.cache.region;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.LocationsDefinition;
@@ -80,7 +87,59 @@ public class RegionLoader
 		}
 	}
 
+	/**
+	 * Load all regions, spreading the decompression and parsing of the regions
+	 * across the given pool. The resulting regions are the same as from {@link #loadRegions()}.
+	 *
+	 * @param pool pool to load the regions on
+	 */
+	public void loadRegions(ForkJoinPool pool)
+	{
+		if (!this.regions.isEmpty())
+		{
+			return;
+		}
+
+		List<ForkJoinTask<Region>> tasks = new ArrayList<>(MAX_REGION);
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			final int id = i;
+			tasks.add(pool.submit(() ->
+			{
+				try
+				{
+					return readRegionFromArchive(id);
+				}
+				catch (IOException ex)
+				{
+					log.debug("Can't decrypt region " + id, ex);
+					return null;
+				}
+			}));
+		}
+
+		// tasks are joined in region order so the map is built the same as a serial load
+		for (ForkJoinTask<Region> task : tasks)
+		{
+			Region region = task.join();
+			if (region != null)
+			{
+				regions.put(region.getRegionID(), region);
+			}
+		}
+	}
+
 	public Region loadRegionFromArchive(int i) throws IOException
+	{
+		Region region = readRegionFromArchive(i);
+		if (region != null)
+		{
+			regions.put(i, region);
+		}
+		return region;
+	}
+
+	private Region readRegionFromArchive(int i) throws IOException
 	{
 		int x = i >> 8;
 		int y = i & 0xFF;
@@ -111,11 +170,53 @@ public class RegionLoader
 			region.loadLocations(locDef);
 		}
 
-		regions.put(i, region);
-
 		return region;
 	}
 
+	/**
+	 * Find the regions whose map or locations archive differs between two caches, by
+	 * comparing the crc and revision of the archives. Regions which were added or removed
+	 * are included.
+	 *
+	 * @param oldStore the old cache
+	 * @param newStore the new cache
+	 * @return the ids of the changed regions
+	 */
+	public static SortedSet<Integer> findChangedRegions(Store oldStore, Store newStore)
+	{
+		Index oldIndex = oldStore.getIndex(IndexType.MAPS);
+		Index newIndex = newStore.getIndex(IndexType.MAPS);
+
+		SortedSet<Integer> changed = new TreeSet<>();
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			int x = i >> 8;
+			int y = i & 0xFF;
+
+			String map = "m" + x + "_" + y;
+			String land = "l" + x + "_" + y;
+			if (archiveChanged(oldIndex, newIndex, map) || archiveChanged(oldIndex, newIndex, land))
+			{
+				changed.add(i);
+			}
+		}
+		return changed;
+	}
+
+	private static boolean archiveChanged(Index oldIndex, Index newIndex, String name)
+	{
+		Archive oldArchive = oldIndex != null ? oldIndex.findArchiveByName(name) : null;
+		Archive newArchive = newIndex != null ? newIndex.findArchiveByName(name) : null;
+
+		if (oldArchive == null || newArchive == null)
+		{
+			return !Objects.equals(oldArchive, newArchive);
+		}
+
+		return oldArchive.getCrc() != newArchive.getCrc()
+			|| oldArchive.getRevision() != newArchive.getRevision();
+	}
+
 	public Region loadRegion(int id, MapDefinition map, LocationsDefinition locs)
 	{
 		Region r = new Region(id);
@@ -30,6 +30,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import static net.runelite.cache.util.LibBZip2.BZ_FINISH_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_OK;
@@ -126,12 +127,17 @@ public class BZip2
 	}
 
 	public static byte[] decompress(byte[] bytes, int len) throws IOException
+	{
+		return decompress(bytes, 0, len);
+	}
+
+	public static byte[] decompress(byte[] bytes, int off, int len) throws IOException
 	{
 		byte[] data = new byte[len + BZIP_HEADER.length];
 
 		// add header
 		System.arraycopy(BZIP_HEADER, 0, data, 0, BZIP_HEADER.length);
-		System.arraycopy(bytes, 0, data, BZIP_HEADER.length, len);
+		System.arraycopy(bytes, off, data, BZIP_HEADER.length, len);
 
 		ByteArrayOutputStream os = new ByteArrayOutputStream();
 
@@ -142,4 +148,30 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress into the given buffer. Decompression stops once outLen bytes
+	 * have been written.
+	 *
+	 * @return the number of bytes written
+	 */
+	public static int decompress(byte[] bytes, int off, int len, byte[] out, int outOff, int outLen) throws IOException
+	{
+		// stream the header in front of the data instead of copying the data after the header
+		InputStream in = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteArrayInputStream(bytes, off, len));
+		try (InputStream is = new BZip2CompressorInputStream(in))
+		{
+			int written = 0;
+			while (written < outLen)
+			{
+				int n = is.read(out, outOff + written, outLen - written);
+				if (n == -1)
+				{
+					break;
+				}
+				written += n;
+			}
+			return written;
+		}
+	}
 }
@@ -27,14 +27,27 @@ package net.runelite.cache.util;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 
 public class GZip
 {
+	private static final int GZIP_MAGIC = 0x8b1f;
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		ByteArrayOutputStream bout = new ByteArrayOutputStream();
@@ -51,14 +64,135 @@ public class GZip
 	}
 
 	public static byte[] decompress(byte[] bytes, int len) throws IOException
+	{
+		return decompress(bytes, 0, len);
+	}
+
+	public static byte[] decompress(byte[] bytes, int off, int len) throws IOException
 	{
 		ByteArrayOutputStream os = new ByteArrayOutputStream();
 
-		try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(bytes, 0, len)))
+		try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(bytes, off, len)))
 		{
 			is.transferTo(os);
 		}
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress into the given buffer, using an inflater which is reused
+	 * by the calling thread. The data must decompress to at most outLen bytes,
+	 * and the gzip trailer is checked against the decompressed data.
+	 *
+	 * @return the number of bytes written
+	 */
+	public static int decompress(byte[] bytes, int off, int len, byte[] out, int outOff, int outLen) throws IOException
+	{
+		int end = off + len;
+		if (len < 10 || ((bytes[off] & 0xFF) | (bytes[off + 1] & 0xFF) << 8) != GZIP_MAGIC)
+		{
+			throw new ZipException("Not in GZIP format");
+		}
+
+		if (bytes[off + 2] != 8)
+		{
+			throw new ZipException("Unsupported compression method");
+		}
+
+		int flags = bytes[off + 3] & 0xFF;
+		int pos = off + 10;
+		if ((flags & FEXTRA) != 0)
+		{
+			if (pos + 2 > end)
+			{
+				throw new EOFException("Unexpected end of GZIP header");
+			}
+			pos += 2 + ((bytes[pos] & 0xFF) | (bytes[pos + 1] & 0xFF) << 8);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+
+		if (pos > end)
+		{
+			throw new EOFException("Unexpected end of GZIP header");
+		}
+
+		Inflater inflater = INFLATER.get();
+		inflater.reset();
+		inflater.setInput(bytes, pos, end - pos);
+
+		int written = 0;
+		try
+		{
+			while (written < outLen && !inflater.finished())
+			{
+				int n = inflater.inflate(out, outOff + written, outLen - written);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+				{
+					throw new EOFException("Unexpected end of GZIP data");
+				}
+				written += n;
+			}
+
+			if (!inflater.finished())
+			{
+				// the output is full, but the end of the deflate stream may not have been read yet
+				if (inflater.inflate(new byte[1]) != 0)
+				{
+					throw new ZipException("GZIP data is longer than " + outLen + " bytes");
+				}
+				if (!inflater.finished())
+				{
+					throw new EOFException("Unexpected end of GZIP data");
+				}
+			}
+		}
+		catch (DataFormatException ex)
+		{
+			throw new ZipException(ex.getMessage());
+		}
+
+		int trailer = end - inflater.getRemaining();
+		if (trailer + 8 > end)
+		{
+			throw new EOFException("Unexpected end of GZIP trailer");
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(out, outOff, written);
+		if (readInt(bytes, trailer) != (int) crc.getValue() || readInt(bytes, trailer + 4) != written)
+		{
+			throw new ZipException("Corrupt GZIP trailer");
+		}
+
+		return written;
+	}
+
+	private static int skipString(byte[] bytes, int pos, int end) throws EOFException
+	{
+		while (pos < end)
+		{
+			if (bytes[pos++] == 0)
+			{
+				return pos;
+			}
+		}
+		throw new EOFException("Unexpected end of GZIP header");
+	}
+
+	private static int readInt(byte[] bytes, int pos)
+	{
+		return (bytes[pos] & 0xFF) | (bytes[pos + 1] & 0xFF) << 8 | (bytes[pos + 2] & 0xFF) << 16 | (bytes[pos + 3] & 0xFF) << 24;
+	}
 }
@@ -24,6 +24,8 @@
  */
 package net.runelite.cache.util;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 
@@ -85,4 +87,113 @@ public class Xtea
 		out.writeBytes(in.getRemaining());
 		return out.flip();
 	}
+
+	/**
+	 * Encrypt the given range of the array in place. Any trailing partial
+	 * block is left unencrypted.
+	 *
+	 * @param data data
+	 * @param off offset of the range to encrypt
+	 * @param len length of the range to encrypt
+	 */
+	public void encrypt(byte[] data, int off, int len)
+	{
+		for (int end = off + (len & ~7); off < end; off += 8)
+		{
+			int v0 = getInt(data, off);
+			int v1 = getInt(data, off + 4);
+			int sum = 0;
+			for (int i = 0; i < ROUNDS; ++i)
+			{
+				v0 += (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
+				sum += GOLDEN_RATIO;
+				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
+			}
+			putInt(data, off, v0);
+			putInt(data, off + 4, v1);
+		}
+	}
+
+	/**
+	 * Decrypt the given range of the array in place. Any trailing partial
+	 * block is left as is.
+	 *
+	 * @param data data
+	 * @param off offset of the range to decrypt
+	 * @param len length of the range to decrypt
+	 */
+	public void decrypt(byte[] data, int off, int len)
+	{
+		for (int end = off + (len & ~7); off < end; off += 8)
+		{
+			int v0 = getInt(data, off);
+			int v1 = getInt(data, off + 4);
+			int sum = GOLDEN_RATIO * ROUNDS;
+			for (int i = 0; i < ROUNDS; ++i)
+			{
+				v1 -= (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
+				sum -= GOLDEN_RATIO;
+				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
+			}
+			putInt(data, off, v0);
+			putInt(data, off + 4, v1);
+		}
+	}
+
+	/**
+	 * Decrypt the remaining bytes of the buffer in place. The position and
+	 * limit of the buffer are not modified.
+	 *
+	 * @param buffer buffer
+	 */
+	public void decrypt(ByteBuffer buffer)
+	{
+		if (buffer.hasArray())
+		{
+			decrypt(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			return;
+		}
+
+		boolean swap = buffer.order() != ByteOrder.BIG_ENDIAN;
+		for (int off = buffer.position(), end = off + (buffer.remaining() & ~7); off < end; off += 8)
+		{
+			int v0 = buffer.getInt(off);
+			int v1 = buffer.getInt(off + 4);
+			if (swap)
+			{
+				v0 = Integer.reverseBytes(v0);
+				v1 = Integer.reverseBytes(v1);
+			}
+			int sum = GOLDEN_RATIO * ROUNDS;
+			for (int i = 0; i < ROUNDS; ++i)
+			{
+				v1 -= (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
+				sum -= GOLDEN_RATIO;
+				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
+			}
+			if (swap)
+			{
+				v0 = Integer.reverseBytes(v0);
+				v1 = Integer.reverseBytes(v1);
+			}
+			buffer.putInt(off, v0);
+			buffer.putInt(off + 4, v1);
+		}
+	}
+
+	private static int getInt(byte[] data, int off)
+	{
+		return ((data[off] & 0xFF) << 24)
+			| ((data[off + 1] & 0xFF) << 16)
+			| ((data[off + 2] & 0xFF) << 8)
+			| (data[off + 3] & 0xFF);
+	}
+
+	private static void putInt(byte[] data, int off, int value)
+	{
+		data[off] = (byte) (value >> 24);
+		data[off + 1] = (byte) (value >> 16);
+		data[off + 2] = (byte) (value >> 8);
+		data[off + 3] = (byte) value;
+	}
 }
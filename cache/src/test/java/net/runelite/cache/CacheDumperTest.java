@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheDumperTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testDump() throws IOException
+	{
+		File root = folder.newFolder();
+		File outDir = folder.newFolder();
+		SyntheticCache.generate(root);
+
+		try (Store store = new Store(new DiskStorage(root, true)))
+		{
+			store.load();
+
+			List<CacheDumper.IndexStats> stats = new CacheDumper(store, SyntheticCache.KEY_PROVIDER).dump(outDir, 4, 2);
+			assertEquals(store.getIndexes().size(), stats.size());
+			for (CacheDumper.IndexStats indexStats : stats)
+			{
+				assertTrue(indexStats.isValid());
+				assertEquals(0, indexStats.getEncrypted());
+				assertEquals(store.findIndex(indexStats.getIndex()).getArchives().size(), indexStats.getArchives());
+			}
+
+			File items = new File(outDir, IndexType.CONFIGS.getNumber() + "/" + ConfigType.ITEM.getId());
+			assertEquals(SyntheticCache.ITEMS, items.list().length);
+			assertTrue(new File(outDir, IndexType.MODELS.getNumber() + "/0.dat").isFile());
+		}
+	}
+
+	@Test
+	public void testVerify() throws IOException
+	{
+		File root = folder.newFolder();
+		SyntheticCache.generate(root);
+
+		try (Store store = new Store(new DiskStorage(root, true)))
+		{
+			store.load();
+
+			Archive model = store.getIndex(IndexType.MODELS).getArchive(0);
+			model.setCrc(model.getCrc() + 1);
+
+			List<CacheDumper.IndexStats> stats = new CacheDumper(store, null).dump(null, 4, 2);
+			for (CacheDumper.IndexStats indexStats : stats)
+			{
+				if (indexStats.getIndex() == IndexType.MODELS.getNumber())
+				{
+					assertFalse(indexStats.isValid());
+					assertEquals(1, indexStats.getCrcMismatches());
+				}
+				else if (indexStats.getIndex() == IndexType.MAPS.getNumber())
+				{
+					assertTrue(indexStats.isValid());
+					assertEquals(SyntheticCache.REGIONS * SyntheticCache.REGIONS, indexStats.getEncrypted());
+				}
+				else
+				{
+					assertTrue(indexStats.isValid());
+				}
+			}
+		}
+	}
+}
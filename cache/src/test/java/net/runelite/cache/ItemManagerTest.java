@@ -27,7 +27,11 @@ package net.runelite.cache;
 
 import java.io.File;
 import java.io.IOException;
+import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -62,4 +66,66 @@ public class ItemManagerTest
 		logger.info("Dumped to {}, java {}", dumpDir, javaDir);
 	}
 
+	@Test
+	public void testLoadLazy() throws IOException
+	{
+		File root = folder.newFolder();
+		SyntheticCache.generate(root);
+
+		try (Store store = new Store(root))
+		{
+			store.load();
+
+			ItemManager eager = new ItemManager(store);
+			eager.load();
+
+			for (boolean soft : new boolean[]{false, true})
+			{
+				ItemManager lazy = new ItemManager(store);
+				lazy.loadLazy(soft);
+
+				ItemDefinition item = lazy.getItem(42);
+				assertEquals(eager.getItem(42), item);
+				assertSame(item, lazy.getItem(42));
+				assertNull(lazy.getItem(-1));
+				assertNull(lazy.getItem(SyntheticCache.ITEMS));
+
+				assertEquals(eager.getItems().size(), lazy.getItems().size());
+				for (ItemDefinition def : eager.getItems())
+				{
+					assertEquals(def, lazy.getItem(def.id));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLinkLazy() throws IOException
+	{
+		File root = folder.newFolder();
+		SyntheticCache.generate(root);
+
+		try (Store store = new Store(root))
+		{
+			store.load();
+
+			ItemManager eager = new ItemManager(store);
+			eager.load();
+			eager.link();
+
+			ItemManager lazy = new ItemManager(store);
+			lazy.loadLazy(false);
+
+			// decoded before linking
+			ItemDefinition noted = lazy.getItem(SyntheticCache.NOTED_ITEM);
+			assertEquals("Item " + SyntheticCache.NOTED_ITEM, noted.name);
+
+			lazy.link();
+
+			noted = lazy.getItem(SyntheticCache.NOTED_ITEM);
+			assertEquals("Item " + (SyntheticCache.NOTED_ITEM - 1), noted.name);
+			assertEquals(1, noted.stackable);
+			assertEquals(eager.getItem(SyntheticCache.NOTED_ITEM), noted);
+		}
+	}
 }
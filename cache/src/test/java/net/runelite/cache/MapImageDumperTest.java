@@ -27,11 +27,15 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.XteaKeyManager;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -75,6 +79,31 @@ public class MapImageDumperTest
 		}
 	}
 
+	@Test
+	@Ignore
+	public void dumpTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			MapImageDumper dumper = new MapImageDumper(store, keyManager);
+			dumper.load();
+
+			for (int i = 0; i < Region.Z; ++i)
+			{
+				dumper.writeMapTiles(i, 8, Runtime.getRuntime().availableProcessors(), outDir);
+				logger.info("Wrote tiles for plane {}", i);
+			}
+		}
+	}
+
 	@Test
 	@Ignore
 	public void dumpRegions() throws Exception
@@ -104,4 +133,44 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	public void testDrawMapTile() throws IOException
+	{
+		File root = folder.newFolder();
+		SyntheticCache.generate(root);
+
+		try (Store store = new Store(root))
+		{
+			store.load();
+
+			MapImageDumper dumper = new MapImageDumper(store, SyntheticCache.KEY_PROVIDER);
+			dumper.load();
+
+			BufferedImage map = dumper.drawMap(0);
+
+			// a tile of 2x2 regions away from the edges of the map, so that it has neighbors on all sides
+			int regionsPerTile = 2;
+			int tileX = SyntheticCache.BASE_REGION / regionsPerTile + 1;
+			int tileY = SyntheticCache.BASE_REGION / regionsPerTile + 1;
+			BufferedImage tile = dumper.drawMapTile(0, tileX, tileY, regionsPerTile);
+
+			int size = tile.getWidth();
+			int scale = size / (regionsPerTile * Region.X);
+			assertEquals(size, tile.getHeight());
+			assertEquals(SyntheticCache.REGIONS * Region.X * scale, map.getWidth());
+
+			// the map is drawn with the highest region at the top
+			int highestRegionY = SyntheticCache.BASE_REGION + SyntheticCache.REGIONS - 1;
+			int x = (tileX * regionsPerTile - SyntheticCache.BASE_REGION) * Region.X * scale;
+			int y = (highestRegionY - (tileY * regionsPerTile + regionsPerTile - 1)) * Region.Y * scale;
+
+			int[] expected = map.getRGB(x, y, size, size, null, 0, size);
+			int[] actual = tile.getRGB(0, 0, size, size, null, 0, size);
+			assertArrayEquals(expected, actual);
+
+			// and the tile has terrain drawn on it
+			assertTrue(Arrays.stream(actual).distinct().count() > 1);
+		}
+	}
 }
@@ -0,0 +1,495 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.util.Djb2;
+import net.runelite.cache.util.KeyProvider;
+
+/**
+ * Generates a small cache of random, but deterministic and valid, items, npcs, objects,
+ * models and regions so that benchmarks can run without a real cache. It also has the
+ * underlays, overlays, textures, sprites and world map needed to draw the map.
+ */
+public class SyntheticCache
+{
+	public static final int ITEMS = 4096;
+	public static final int NPCS = 2048;
+	public static final int OBJECTS = 8192;
+	public static final int MODELS = 256;
+	public static final int UNDERLAYS = 128;
+	public static final int OVERLAYS = 64;
+	// a noted item, of the item before it, using item 0 as the note template
+	public static final int NOTED_ITEM = 100;
+	// the regions are a square of this many regions starting at 48, 48
+	public static final int REGIONS = 16;
+	public static final int BASE_REGION = 48;
+
+	private static final int[] KEYS = {0x1234, 0x5678, 0x9abc, 0xdef0};
+	public static final KeyProvider KEY_PROVIDER = regionId -> KEYS;
+
+	private static final int LOCATIONS_PER_REGION = 512;
+
+	/**
+	 * Generate the cache into a new temporary folder
+	 *
+	 * @return the folder
+	 */
+	public static File generate() throws IOException
+	{
+		File folder = Files.createTempDirectory("synthetic-cache").toFile();
+		generate(folder);
+		return folder;
+	}
+
+	public static void generate(File folder) throws IOException
+	{
+		try (Store store = new Store(folder))
+		{
+			Index configs = store.addIndex(IndexType.CONFIGS.getNumber());
+			addConfigs(store, configs, ConfigType.ITEM, ITEMS, SyntheticCache::item);
+			addConfigs(store, configs, ConfigType.NPC, NPCS, SyntheticCache::npc);
+			addConfigs(store, configs, ConfigType.OBJECT, OBJECTS, SyntheticCache::object);
+			addConfigs(store, configs, ConfigType.UNDERLAY, UNDERLAYS, SyntheticCache::underlay);
+			addConfigs(store, configs, ConfigType.OVERLAY, OVERLAYS, SyntheticCache::overlay);
+			addConfigs(store, configs, ConfigType.AREA, 1, id -> new byte[1]);
+
+			Index models = store.addIndex(IndexType.MODELS.getNumber());
+			for (int i = 0; i < MODELS; ++i)
+			{
+				addArchive(store, models, i, 0, model(i), null);
+			}
+
+			Index maps = store.addIndex(IndexType.MAPS.getNumber());
+			int archiveId = 0;
+			for (int x = BASE_REGION; x < BASE_REGION + REGIONS; ++x)
+			{
+				for (int y = BASE_REGION; y < BASE_REGION + REGIONS; ++y)
+				{
+					int regionId = x << 8 | y;
+					addArchive(store, maps, archiveId++, Djb2.hash("m" + x + "_" + y), map(regionId), null);
+					addArchive(store, maps, archiveId++, Djb2.hash("l" + x + "_" + y), locations(regionId), KEYS);
+				}
+			}
+
+			Index sprites = store.addIndex(IndexType.SPRITES.getNumber());
+			addArchive(store, sprites, 0, Djb2.hash("mapscene"), sprite(), null);
+
+			Index textures = store.addIndex(IndexType.TEXTURES.getNumber());
+			addArchive(store, textures, 0, 0, texture(), null);
+
+			// the world map has no labels, so no fonts are needed
+			store.addIndex(IndexType.FONTS.getNumber());
+
+			Index scripts = store.addIndex(IndexType.CLIENTSCRIPT.getNumber());
+			addArchive(store, scripts, 1705, 0, script(), null);
+
+			// a composite map without any sections
+			Index worldMap = store.addIndex(IndexType.WORLDMAP.getNumber());
+			addArchive(store, worldMap, 0, Djb2.hash("compositemap"), new byte[6], null);
+
+			store.save();
+		}
+	}
+
+	/**
+	 * Delete a generated cache
+	 */
+	public static void delete(File folder) throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(folder.toPath()))
+		{
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+			{
+				Files.delete(path);
+			}
+		}
+	}
+
+	private interface Encoder
+	{
+		byte[] encode(int id);
+	}
+
+	private static void addConfigs(Store store, Index index, ConfigType type, int count, Encoder encoder) throws IOException
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		FileData[] fileData = new FileData[count];
+		for (int i = 0; i < count; ++i)
+		{
+			FSFile file = new FSFile(i);
+			file.setContents(encoder.encode(i));
+			files.addFile(file);
+
+			fileData[i] = new FileData();
+			fileData[i].setId(i);
+		}
+
+		Archive archive = index.addArchive(type.getId());
+		archive.setFileData(fileData);
+		save(store, archive, files.saveContents(), null);
+	}
+
+	private static void addArchive(Store store, Index index, int id, int nameHash, byte[] data, int[] keys) throws IOException
+	{
+		Archive archive = index.addArchive(id);
+		archive.setNameHash(nameHash);
+
+		FileData fileData = new FileData();
+		fileData.setId(0);
+		archive.setFileData(new FileData[]{fileData});
+		save(store, archive, data, keys);
+	}
+
+	private static void save(Store store, Archive archive, byte[] data, int[] keys) throws IOException
+	{
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(data, keys);
+
+		archive.setCompression(CompressionType.GZ);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	public static byte[] item(int id)
+	{
+		Random random = new Random(id);
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		out.writeShort(id % MODELS);
+		out.writeByte(2);
+		out.writeString("Item " + id);
+		out.writeByte(4);
+		out.writeShort(1000 + random.nextInt(1000));
+		out.writeByte(5);
+		out.writeShort(random.nextInt(2048));
+		out.writeByte(6);
+		out.writeShort(random.nextInt(2048));
+		out.writeByte(30 + 2);
+		out.writeString("Take");
+		out.writeByte(35 + 1);
+		out.writeString("Wield");
+		out.writeByte(40);
+		out.writeByte(1);
+		out.writeShort(random.nextInt(0x10000));
+		out.writeShort(random.nextInt(0x10000));
+		if (id == NOTED_ITEM)
+		{
+			out.writeByte(97);
+			out.writeShort(id - 1);
+			out.writeByte(98);
+			out.writeShort(0);
+		}
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	public static byte[] npc(int id)
+	{
+		Random random = new Random(id);
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		out.writeByte(2);
+		out.writeShort(id % MODELS);
+		out.writeShort((id + 1) % MODELS);
+		out.writeByte(2);
+		out.writeString("Npc " + id);
+		out.writeByte(12);
+		out.writeByte(1 + random.nextInt(3));
+		out.writeByte(30);
+		out.writeString("Talk-to");
+		out.writeByte(40);
+		out.writeByte(1);
+		out.writeShort(random.nextInt(0x10000));
+		out.writeShort(random.nextInt(0x10000));
+		out.writeByte(95);
+		out.writeShort(random.nextInt(127));
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	public static byte[] object(int id)
+	{
+		Random random = new Random(id);
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		out.writeByte(1);
+		out.writeShort(id % MODELS);
+		out.writeByte(10);
+		out.writeByte(2);
+		out.writeString("Object " + id);
+		out.writeByte(14);
+		out.writeByte(1 + random.nextInt(2));
+		out.writeByte(15);
+		out.writeByte(1 + random.nextInt(2));
+		out.writeByte(30);
+		out.writeString("Open");
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	public static byte[] underlay(int id)
+	{
+		Random random = new Random(id);
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		out.write24BitInt(random.nextInt(0x1000000));
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	public static byte[] overlay(int id)
+	{
+		Random random = new Random(id);
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		out.write24BitInt(random.nextInt(0x1000000));
+		if (random.nextBoolean())
+		{
+			out.writeByte(7);
+			out.write24BitInt(random.nextInt(0x1000000));
+		}
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	/**
+	 * Encode a single 1x1 sprite
+	 */
+	public static byte[] sprite()
+	{
+		OutputStream out = new OutputStream();
+		out.writeByte(0); // flags
+		out.writeByte(1); // palette index
+		out.write24BitInt(0xff0000); // palette
+		out.writeShort(1); // max width
+		out.writeShort(1); // max height
+		out.writeByte(1); // palette length - 1
+		out.writeShort(0); // offset x
+		out.writeShort(0); // offset y
+		out.writeShort(1); // width
+		out.writeShort(1); // height
+		out.writeShort(1); // sprite count
+		return out.flip();
+	}
+
+	public static byte[] texture()
+	{
+		OutputStream out = new OutputStream();
+		out.writeShort(0);
+		out.writeByte(0);
+		out.writeByte(1); // sprite count
+		out.writeShort(0);
+		out.writeInt(0);
+		out.writeByte(0); // animation direction
+		out.writeByte(0); // animation speed
+		return out.flip();
+	}
+
+	/**
+	 * Encode an empty script with a single empty switch
+	 */
+	public static byte[] script()
+	{
+		OutputStream out = new OutputStream();
+		out.writeByte(0); // no name
+		out.writeInt(0); // instructions
+		out.writeShort(0); // local ints
+		out.writeShort(0); // local objects
+		out.writeShort(0); // int args
+		out.writeShort(0); // object args
+		out.writeByte(1); // switches
+		out.writeShort(0); // cases
+		out.writeShort(3); // switch length
+		return out.flip();
+	}
+
+	/**
+	 * Encode a randomly displaced square grid in the old model format
+	 */
+	public static byte[] model(int id)
+	{
+		Random random = new Random(id);
+		int size = 8 + id % 8; // grid squares per side
+		int vertexCount = (size + 1) * (size + 1);
+		int faceCount = size * size * 2;
+
+		OutputStream vertexFlags = new OutputStream();
+		OutputStream vertexX = new OutputStream();
+		OutputStream vertexY = new OutputStream();
+		OutputStream vertexZ = new OutputStream();
+		int lastX = 0, lastY = 0, lastZ = 0;
+		for (int i = 0; i <= size; ++i)
+		{
+			for (int j = 0; j <= size; ++j)
+			{
+				int x = (i - size / 2) * 16;
+				int y = -random.nextInt(32);
+				int z = (j - size / 2) * 16;
+				vertexFlags.writeByte(7);
+				writeShortSmart(vertexX, x - lastX);
+				writeShortSmart(vertexY, y - lastY);
+				writeShortSmart(vertexZ, z - lastZ);
+				lastX = x;
+				lastY = y;
+				lastZ = z;
+			}
+		}
+
+		OutputStream faceTypes = new OutputStream();
+		OutputStream faceIndices = new OutputStream();
+		OutputStream faceColors = new OutputStream();
+		int lastIndex = 0;
+		for (int i = 0; i < size; ++i)
+		{
+			for (int j = 0; j < size; ++j)
+			{
+				int v = i * (size + 1) + j;
+				int[][] faces = {
+					{v, v + 1, v + size + 1},
+					{v + 1, v + size + 2, v + size + 1}
+				};
+				for (int[] face : faces)
+				{
+					faceTypes.writeByte(1);
+					writeShortSmart(faceIndices, face[0] - lastIndex);
+					writeShortSmart(faceIndices, face[1] - face[0]);
+					writeShortSmart(faceIndices, face[2] - face[1]);
+					lastIndex = face[2];
+					faceColors.writeShort(random.nextInt(0x10000));
+				}
+			}
+		}
+
+		OutputStream out = new OutputStream();
+		out.writeBytes(vertexFlags.flip());
+		out.writeBytes(faceTypes.flip());
+		byte[] indices = faceIndices.flip();
+		out.writeBytes(indices);
+		out.writeBytes(faceColors.flip());
+		byte[] x = vertexX.flip(), y = vertexY.flip(), z = vertexZ.flip();
+		out.writeBytes(x);
+		out.writeBytes(y);
+		out.writeBytes(z);
+
+		out.writeShort(vertexCount);
+		out.writeShort(faceCount);
+		out.writeByte(0); // texture count
+		out.writeByte(0); // textured
+		out.writeByte(0); // face priority
+		out.writeByte(0); // face transparencies
+		out.writeByte(0); // packed transparency vertex groups
+		out.writeByte(0); // packed vertex groups
+		out.writeShort(x.length);
+		out.writeShort(y.length);
+		out.writeShort(z.length);
+		out.writeShort(indices.length);
+		return out.flip();
+	}
+
+	public static byte[] map(int regionId)
+	{
+		Random random = new Random(regionId);
+		OutputStream out = new OutputStream();
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					if (z > 0)
+					{
+						out.writeShort(0);
+						continue;
+					}
+
+					if (random.nextInt(8) == 0)
+					{
+						// overlay with a random shape and rotation
+						out.writeShort(2 + random.nextInt(48));
+						out.writeShort(1 + random.nextInt(32));
+					}
+					out.writeShort(82 + random.nextInt(32)); // underlay
+					out.writeShort(1);
+					out.writeByte(random.nextInt(64)); // height
+				}
+			}
+		}
+		return out.flip();
+	}
+
+	public static byte[] locations(int regionId)
+	{
+		Random random = new Random(regionId);
+		int[] ids = random.ints(0, OBJECTS)
+			.distinct()
+			.limit(LOCATIONS_PER_REGION)
+			.sorted()
+			.toArray();
+
+		OutputStream out = new OutputStream();
+		int lastId = -1;
+		for (int id : ids)
+		{
+			out.writeShortSmart(id - lastId);
+			lastId = id;
+
+			int position = random.nextInt(Region.X) << 6 | random.nextInt(Region.Y);
+			out.writeShortSmart(position + 1);
+			out.writeByte(random.nextInt(23) << 2 | random.nextInt(4));
+			out.writeShortSmart(0);
+		}
+		out.writeShortSmart(0);
+		return out.flip();
+	}
+
+	private static void writeShortSmart(OutputStream out, int value)
+	{
+		if (value >= -64 && value < 64)
+		{
+			out.writeByte(value + 64);
+		}
+		else
+		{
+			out.writeShort(value + 0xc000);
+		}
+	}
+}
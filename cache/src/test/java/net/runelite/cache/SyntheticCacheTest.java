@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.region.RegionLoader;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SyntheticCacheTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testGenerate() throws IOException
+	{
+		File root = folder.newFolder();
+		SyntheticCache.generate(root);
+
+		try (Store store = new Store(root))
+		{
+			store.load();
+
+			ItemManager items = new ItemManager(store);
+			items.load();
+			assertEquals(SyntheticCache.ITEMS, items.getItems().size());
+			assertEquals("Item 42", items.getItem(42).name);
+
+			NpcManager npcs = new NpcManager(store);
+			npcs.load();
+			assertEquals(SyntheticCache.NPCS, npcs.getNpcs().size());
+
+			ObjectManager objects = new ObjectManager(store);
+			objects.load();
+			assertEquals(SyntheticCache.OBJECTS, objects.getObjects().size());
+
+			RegionLoader regionLoader = new RegionLoader(store, SyntheticCache.KEY_PROVIDER);
+			regionLoader.loadRegions();
+			assertEquals(SyntheticCache.REGIONS * SyntheticCache.REGIONS, regionLoader.getRegions().size());
+			for (Region region : regionLoader.getRegions())
+			{
+				assertFalse(region.getLocations().isEmpty());
+			}
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.loaders;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.io.OutputStream;
+import net.runelite.cache.util.BaseVarType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class DBTableIndexLoaderTest
+{
+	@Test
+	public void testLoad()
+	{
+		DBTableIndex index = new DBTableIndexLoader().load(10, 2, encode());
+		assertEquals(10, index.getTableId());
+		assertEquals(2, index.getColumnId());
+		assertArrayEquals(new BaseVarType[]{BaseVarType.INTEGER, BaseVarType.STRING}, index.getTupleTypes());
+
+		assertArrayEquals(new int[]{1, 2}, index.getRowIds(0, 5));
+		assertArrayEquals(new int[]{4}, index.getRowIds(0, -3));
+		assertArrayEquals(new int[]{3}, index.getRowIds(0, (Object) 1));
+		assertArrayEquals(new int[0], index.getRowIds(0, 2));
+		assertArrayEquals(new int[]{7, 8}, index.getRowIds(1, "abc"));
+		assertArrayEquals(new int[0], index.getRowIds(1, "def"));
+		assertArrayEquals(new int[0], index.getRowIds(2, 5));
+
+		List<Map<Object, List<Integer>>> tupleIndexes = index.getTupleIndexes();
+		assertEquals(Arrays.asList(1, 2), tupleIndexes.get(0).get(5));
+		assertEquals(Arrays.asList(7, 8), tupleIndexes.get(1).get("abc"));
+	}
+
+	@Test
+	public void testEquals()
+	{
+		DBTableIndex index = new DBTableIndexLoader().load(10, 2, encode());
+		DBTableIndex other = new DBTableIndexLoader().load(10, 2, encode());
+		assertEquals(index, other);
+		assertEquals(index.hashCode(), other.hashCode());
+
+		// the boxed tuple indexes are cached, and not part of the value of the index
+		assertSame(index.getTupleIndexes(), index.getTupleIndexes());
+		assertEquals(index, other);
+
+		DBTableIndex copy = new DBTableIndex(10, 2);
+		copy.setTupleTypes(index.getTupleTypes());
+		copy.setTupleIndexes(index.getTupleIndexes());
+		assertEquals(index, copy);
+		assertArrayEquals(new int[]{7, 8}, copy.getRowIds(1, "abc"));
+
+		copy.setTuples(new DBTableIndex.Tuple[]{index.getTuples()[0]});
+		assertNotEquals(index, copy);
+		assertEquals(1, copy.getTupleIndexes().size());
+	}
+
+	@Test
+	public void testNoTuples()
+	{
+		DBTableIndex index = new DBTableIndex(10, 2);
+		assertArrayEquals(new int[0], index.getRowIds(0, 5));
+		assertArrayEquals(new int[0], index.getRowIds(0, "abc"));
+		assertTrue(index.getTupleIndexes().isEmpty());
+	}
+
+	private static byte[] encode()
+	{
+		OutputStream out = new OutputStream();
+		out.writeByte(2); // tuple size
+
+		out.writeByte(0); // integer
+		out.writeByte(3); // value count
+		writeValue(out, 5, 1, 2);
+		writeValue(out, -3, 4);
+		writeValue(out, 1, 3);
+
+		out.writeByte(2); // string
+		out.writeByte(1); // value count
+		out.writeString("abc");
+		out.writeByte(2);
+		out.writeByte(7);
+		out.writeByte(8);
+		return out.flip();
+	}
+
+	private static void writeValue(OutputStream out, int value, int... rows)
+	{
+		out.writeInt(value);
+		out.writeByte(rows.length);
+		for (int row : rows)
+		{
+			out.writeByte(row);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.loaders;
+
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.SyntheticCache;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.LocationsDefinition;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.NpcDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures parsing of decompressed definitions, cycling through a set of
+ * different definitions of each type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoaderBenchmark
+{
+	private static final int COUNT = 256;
+	private static final int REGION = 12850;
+
+	private final ItemLoader itemLoader = new ItemLoader();
+	private final NpcLoader npcLoader = new NpcLoader();
+	private final ObjectLoader objectLoader = new ObjectLoader();
+	private final ModelLoader modelLoader = new ModelLoader();
+	private final MapLoader mapLoader = new MapLoader();
+	private final LocationsLoader locationsLoader = new LocationsLoader();
+
+	private byte[][] items;
+	private byte[][] npcs;
+	private byte[][] objects;
+	private byte[][] models;
+	private byte[] map;
+	private byte[] locations;
+	private int next;
+
+	@Setup
+	public void setup()
+	{
+		items = new byte[COUNT][];
+		npcs = new byte[COUNT][];
+		objects = new byte[COUNT][];
+		models = new byte[COUNT][];
+		for (int i = 0; i < COUNT; ++i)
+		{
+			items[i] = SyntheticCache.item(i);
+			npcs[i] = SyntheticCache.npc(i);
+			objects[i] = SyntheticCache.object(i);
+			models[i] = SyntheticCache.model(i);
+		}
+		map = SyntheticCache.map(REGION);
+		locations = SyntheticCache.locations(REGION);
+	}
+
+	@Benchmark
+	public ItemDefinition loadItem()
+	{
+		int id = next++ & (COUNT - 1);
+		return itemLoader.load(id, items[id]);
+	}
+
+	@Benchmark
+	public NpcDefinition loadNpc()
+	{
+		int id = next++ & (COUNT - 1);
+		return npcLoader.load(id, npcs[id]);
+	}
+
+	@Benchmark
+	public ObjectDefinition loadObject()
+	{
+		int id = next++ & (COUNT - 1);
+		return objectLoader.load(id, objects[id]);
+	}
+
+	@Benchmark
+	public ModelDefinition loadModel()
+	{
+		int id = next++ & (COUNT - 1);
+		return modelLoader.load(id, models[id]);
+	}
+
+	@Benchmark
+	public MapDefinition loadMap()
+	{
+		return mapLoader.load(REGION >> 8, REGION & 0xFF, map);
+	}
+
+	@Benchmark
+	public LocationsDefinition loadLocations()
+	{
+		return locationsLoader.load(REGION >> 8, REGION & 0xFF, locations);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(LoaderBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
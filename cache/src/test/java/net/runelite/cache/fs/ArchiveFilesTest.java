@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.nio.ByteBuffer;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ArchiveFilesTest
+{
+	@Test
+	public void testLoadViews()
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < 100; ++i)
+		{
+			FSFile file = new FSFile(i * 3);
+			file.setContents(new byte[]{(byte) i, (byte) (i + 1)});
+			files.addFile(file);
+		}
+
+		byte[] data = files.saveContents();
+
+		ArchiveFiles loaded = new ArchiveFiles();
+		for (int i = 0; i < 100; ++i)
+		{
+			loaded.addFile(new FSFile(i * 3));
+		}
+		loaded.loadContents(data);
+
+		FSFile file = loaded.findFile(42 * 3);
+		assertTrue(file.isView());
+		assertEquals(2, file.getSize());
+
+		ByteBuffer buffer = file.getContentsBuffer();
+		assertEquals(42, buffer.get());
+		assertEquals(43, buffer.get());
+		assertTrue(file.isView());
+
+		byte[] contents = file.getContents();
+		assertArrayEquals(new byte[]{42, 43}, contents);
+		assertFalse(file.isView());
+		assertSame(contents, file.getContents());
+
+		assertNull(loaded.findFile(1));
+		assertEquals(files, loaded);
+
+		// modifying the copied contents must not affect the other files
+		contents[0] = 0;
+		assertArrayEquals(new byte[]{43, 44}, loaded.findFile(43 * 3).getContents());
+	}
+
+	@Test
+	public void testLoadChunks()
+	{
+		// two files split over two chunks, {1, 2, 3} and {4, 5}
+		byte[] data = {
+			1, 2, 4, 3, 5,
+			0, 0, 0, 2, -1, -1, -1, -1,
+			0, 0, 0, 1, 0, 0, 0, 0,
+			2
+		};
+
+		ArchiveFiles files = new ArchiveFiles();
+		files.addFile(new FSFile(0));
+		files.addFile(new FSFile(1));
+		files.loadContents(data);
+
+		assertFalse(files.findFile(0).isView());
+		assertArrayEquals(new byte[]{1, 2, 3}, files.findFile(0).getContents());
+		assertArrayEquals(new byte[]{4, 5}, files.findFile(1).getContents());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testDuplicateFile()
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		files.addFile(new FSFile(7));
+		files.addFile(new FSFile(7));
+	}
+}
@@ -25,9 +25,17 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +60,109 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompressDoesNotModifyInput() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			Container container = new Container(compression, 42);
+			container.compress(data, keys);
+			byte[] compressedData = container.data;
+			byte[] copy = compressedData.clone();
+
+			Container container2 = Container.decompress(compressedData, keys);
+			assertArrayEquals(data, container2.data);
+			assertArrayEquals(copy, compressedData);
+			assertEquals(container.crc, container2.crc);
+			assertEquals(42, container2.revision);
+		}
+	}
+
+	@Test
+	public void testDecompressIntoBuffer() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			Container container = new Container(compression, -1);
+			container.compress(data, keys);
+
+			for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(2048), ByteBuffer.allocateDirect(2048)})
+			{
+				buffer.position(42);
+				Container container2 = Container.decompress(container.data, keys, buffer);
+				assertNull(container2.data);
+				assertEquals(container.crc, container2.crc);
+				assertEquals(42 + data.length, buffer.position());
+
+				byte[] out = new byte[data.length];
+				buffer.position(42);
+				buffer.get(out);
+				assertArrayEquals(data, out);
+			}
+		}
+	}
+
+	@Test(expected = BufferOverflowException.class)
+	public void testDecompressIntoSmallBuffer() throws IOException
+	{
+		Container container = new Container(GZ, -1);
+		container.compress(new byte[1024], null);
+		Container.decompress(container.data, null, ByteBuffer.allocate(1023));
+	}
+
+	@Test
+	public void testDecompressWrongKeys() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		int[] wrongKeys = new int[]
+		{
+			23, 42, 4, 8
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{BZ2, GZ})
+		{
+			Container container = new Container(compression, -1);
+			container.compress(data, keys);
+
+			try
+			{
+				Container.decompress(container.data, wrongKeys);
+				fail("decompressed with the wrong keys");
+			}
+			catch (IOException ex)
+			{
+				// expected
+			}
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressTruncated() throws IOException
+	{
+		Container container = new Container(GZ, -1);
+		container.compress(new byte[1024], null);
+		Container.decompress(Arrays.copyOf(container.data, container.data.length - 8), null);
+	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.File;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryFlatStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSaveLoad() throws Exception
+	{
+		File diskFolder = folder.newFolder();
+		File flatFolder = folder.newFolder();
+
+		try (Store store = new Store(new DiskStorage(diskFolder)))
+		{
+			Index index = store.addIndex(0);
+			index.setRevision(7);
+			index.setSized(true);
+
+			for (int i = 0; i < 3; ++i)
+			{
+				Archive archive = index.addArchive(i * 10);
+				archive.setNameHash(i + 100);
+
+				FileData[] fileData = new FileData[i + 1];
+				for (int j = 0; j < fileData.length; ++j)
+				{
+					fileData[j] = new FileData();
+					fileData[j].setId(j);
+					fileData[j].setNameHash(j * 31);
+				}
+				archive.setFileData(fileData);
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(("test" + i).getBytes(), null);
+				archive.setCrc(container.crc);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			store.save();
+
+			new BinaryFlatStorage(flatFolder).save(store);
+
+			try (Store flatStore = new Store(new BinaryFlatStorage(flatFolder)))
+			{
+				flatStore.load();
+				assertEquals(store, flatStore);
+
+				Index flatIndex = flatStore.findIndex(0);
+				assertEquals(7, flatIndex.getRevision());
+				assertTrue(flatIndex.isSized());
+
+				for (int i = 0; i < 3; ++i)
+				{
+					Archive archive = flatIndex.getArchive(i * 10);
+					assertEquals(i + 100, archive.getNameHash());
+					assertEquals(i + 1, archive.getFileData().length);
+					assertEquals(i * 31, archive.getFileData()[i].getNameHash());
+
+					byte[] data = archive.decompress(flatStore.getStorage().loadArchive(archive));
+					assertArrayEquals(("test" + i).getBytes(), data);
+				}
+
+				assertNull(flatStore.getStorage().load(0, 5));
+			}
+		}
+	}
+}
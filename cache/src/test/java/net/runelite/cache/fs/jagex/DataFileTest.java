@@ -167,4 +167,54 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		File file = folder.newFile();
+
+		DataFileWriteResult res, res2;
+		try (DataFile df = new DataFile(file))
+		{
+			res = df.write(42, 3, b);
+			res2 = df.write(42, 0x1FFFF, b);
+		}
+
+		try (DataFile df = new DataFile(file, true))
+		{
+			Assert.assertArrayEquals(b, df.read(42, 3, res.sector, res.compressedLength));
+			Assert.assertArrayEquals(b, df.read(42, 0x1FFFF, res2.sector, res2.compressedLength));
+			// mismatched archive
+			Assert.assertNull(df.read(42, 4, res.sector, res.compressedLength));
+		}
+	}
+
+	@Test
+	public void testReadOnlyOutOfBounds() throws IOException
+	{
+		File file = folder.newFile();
+
+		try (DataFile df = new DataFile(file, true))
+		{
+			Assert.assertNull(df.read(42, 3, 1, 100));
+		}
+
+		DataFileWriteResult res;
+		try (DataFile df = new DataFile(file))
+		{
+			res = df.write(42, 3, new byte[4096]);
+		}
+
+		try (DataFile df = new DataFile(file, true))
+		{
+			// a sector in a segment past the end of the file
+			Assert.assertNull(df.read(42, 3, 1 << 21, res.compressedLength));
+		}
+	}
 }
@@ -47,4 +47,24 @@ public class IndexFileTest
 		IndexEntry entry2 = index.read(7);
 		Assert.assertEquals(entry, entry2);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		File file = folder.newFile();
+		try (IndexFile index = new IndexFile(5, file))
+		{
+			index.write(new IndexEntry(index, 7, 8, 9));
+		}
+
+		try (IndexFile index = new IndexFile(5, file, true))
+		{
+			IndexEntry entry = index.read(7);
+			Assert.assertEquals(7, entry.getId());
+			Assert.assertEquals(8, entry.getSector());
+			Assert.assertEquals(9, entry.getLength());
+			Assert.assertEquals(8, index.getIndexCount());
+			Assert.assertNull(index.read(8));
+		}
+	}
 }
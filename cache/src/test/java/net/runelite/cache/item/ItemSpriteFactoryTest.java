@@ -27,20 +27,30 @@ package net.runelite.cache.item;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.ItemManager;
 import net.runelite.cache.SpriteManager;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.SyntheticCache;
 import net.runelite.cache.TextureManager;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -116,4 +126,42 @@ public class ItemSpriteFactoryTest
 
 		log.info("Dumped {} item images to {}", count, outDir);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testCreateSprites() throws IOException
+	{
+		ItemLoader itemLoader = new ItemLoader();
+		ModelLoader modelLoader = new ModelLoader();
+		ItemDefinition[] items = new ItemDefinition[64];
+		for (int i = 0; i < items.length; ++i)
+		{
+			items[i] = itemLoader.load(i, SyntheticCache.item(i));
+		}
+
+		ItemProvider itemProvider = itemId -> items[itemId];
+		ModelProvider modelProvider = modelId -> modelLoader.load(modelId, SyntheticCache.model(modelId));
+		SpriteProvider spriteProvider = (spriteId, frameId) -> null;
+		TextureProvider textureProvider = () -> new TextureDefinition[0];
+
+		List<SpriteRequest> requests = new ArrayList<>();
+		for (int i = 0; i < items.length * 2; ++i)
+		{
+			requests.add(new SpriteRequest(i % items.length, 1, i % 3, (i & 1) == 0 ? 0x302020 : 0, (i & 4) != 0));
+		}
+
+		List<BufferedImage> sprites = ItemSpriteFactory.createSprites(itemProvider, modelProvider, spriteProvider, textureProvider,
+			requests, 4);
+		assertEquals(requests.size(), sprites.size());
+
+		for (int i = 0; i < requests.size(); ++i)
+		{
+			SpriteRequest request = requests.get(i);
+			BufferedImage expected = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+				request.getItemId(), request.getQuantity(), request.getBorder(), request.getShadowColor(), request.isNoted());
+			BufferedImage sprite = sprites.get(i);
+
+			assertArrayEquals(expected.getRGB(0, 0, expected.getWidth(), expected.getHeight(), null, 0, expected.getWidth()),
+				sprite.getRGB(0, 0, sprite.getWidth(), sprite.getHeight(), null, 0, sprite.getWidth()));
+		}
+	}
+}
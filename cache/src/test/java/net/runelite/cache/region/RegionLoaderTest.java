@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class RegionLoaderTest
+{
+	@Test
+	public void testLoadRegionsParallel() throws IOException
+	{
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			RegionLoader serial = new RegionLoader(store, region -> null);
+			serial.loadRegions();
+
+			RegionLoader parallel = new RegionLoader(store, region -> null);
+			parallel.loadRegions(pool);
+
+			List<Region> serialRegions = new ArrayList<>(serial.getRegions());
+			List<Region> parallelRegions = new ArrayList<>(parallel.getRegions());
+			assertFalse(serialRegions.isEmpty());
+			assertEquals(serialRegions.size(), parallelRegions.size());
+
+			for (int i = 0; i < serialRegions.size(); ++i)
+			{
+				Region r1 = serialRegions.get(i);
+				Region r2 = parallelRegions.get(i);
+				assertEquals(r1.getRegionID(), r2.getRegionID());
+
+				for (int z = 0; z < Region.Z; ++z)
+				{
+					for (int x = 0; x < Region.X; ++x)
+					{
+						for (int y = 0; y < Region.Y; ++y)
+						{
+							assertEquals(r1.getTileHeight(z, x, y), r2.getTileHeight(z, x, y));
+							assertEquals(r1.getOverlayId(z, x, y), r2.getOverlayId(z, x, y));
+							assertEquals(r1.getUnderlayId(z, x, y), r2.getUnderlayId(z, x, y));
+						}
+					}
+				}
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testFindChangedRegions() throws IOException
+	{
+		try (Store oldStore = new Store(StoreLocation.LOCATION);
+			Store newStore = new Store(StoreLocation.LOCATION))
+		{
+			oldStore.load();
+			newStore.load();
+
+			assertTrue(RegionLoader.findChangedRegions(oldStore, newStore).isEmpty());
+
+			RegionLoader loader = new RegionLoader(newStore, region -> null);
+			loader.loadRegions();
+			Region region = loader.getRegions().iterator().next();
+
+			Archive map = newStore.getIndex(IndexType.MAPS)
+				.findArchiveByName("m" + region.getRegionX() + "_" + region.getRegionY());
+			map.setRevision(map.getRevision() + 1);
+
+			assertEquals(Collections.singleton(region.getRegionID()), RegionLoader.findChangedRegions(oldStore, newStore));
+		}
+	}
+}
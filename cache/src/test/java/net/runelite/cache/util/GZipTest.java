@@ -24,11 +24,14 @@
  */
 package net.runelite.cache.util;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.zip.Deflater;
+import java.util.zip.ZipException;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class GZipTest
@@ -53,4 +56,66 @@ public class GZipTest
 		};
 		assertArrayEquals(header, Arrays.copyOfRange(data, 0, header.length));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testDecompressInto() throws IOException
+	{
+		byte[] data = "datadatadata".getBytes(StandardCharsets.UTF_8);
+		byte[] compressed = GZip.compress(data);
+
+		byte[] in = new byte[compressed.length + 2];
+		System.arraycopy(compressed, 0, in, 1, compressed.length);
+		byte[] out = new byte[data.length + 2];
+		int len = GZip.decompress(in, 1, compressed.length, out, 1, data.length);
+
+		assertEquals(data.length, len);
+		assertArrayEquals(data, Arrays.copyOfRange(out, 1, 1 + data.length));
+	}
+
+	@Test(expected = EOFException.class)
+	public void testDecompressUnterminatedName() throws IOException
+	{
+		byte[] compressed = GZip.compress("data".getBytes(StandardCharsets.UTF_8));
+		compressed[3] = 8; // FNAME, and no zero byte before the end of the header
+		Arrays.fill(compressed, 10, compressed.length, (byte) 1);
+
+		GZip.decompress(compressed, 0, 12, new byte[4], 0, 4);
+	}
+
+	@Test(expected = EOFException.class)
+	public void testDecompressTruncatedExtra() throws IOException
+	{
+		byte[] compressed = GZip.compress("data".getBytes(StandardCharsets.UTF_8));
+		compressed[3] = 4; // FEXTRA
+
+		GZip.decompress(compressed, 0, 11, new byte[4], 0, 4);
+	}
+
+	@Test(expected = ZipException.class)
+	public void testDecompressCorruptTrailer() throws IOException
+	{
+		byte[] data = "datadatadata".getBytes(StandardCharsets.UTF_8);
+		byte[] compressed = GZip.compress(data);
+		compressed[compressed.length - 8] ^= 1; // crc
+
+		GZip.decompress(compressed, 0, compressed.length, new byte[data.length], 0, data.length);
+	}
+
+	@Test(expected = EOFException.class)
+	public void testDecompressTruncatedTrailer() throws IOException
+	{
+		byte[] data = "datadatadata".getBytes(StandardCharsets.UTF_8);
+		byte[] compressed = GZip.compress(data);
+
+		GZip.decompress(compressed, 0, compressed.length - 4, new byte[data.length], 0, data.length);
+	}
+
+	@Test(expected = ZipException.class)
+	public void testDecompressTooLong() throws IOException
+	{
+		byte[] data = "datadatadata".getBytes(StandardCharsets.UTF_8);
+		byte[] compressed = GZip.compress(data);
+
+		GZip.decompress(compressed, 0, compressed.length, new byte[data.length], 0, data.length - 1);
+	}
+}
@@ -24,7 +24,9 @@
  */
 package net.runelite.cache.util;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Test;
 
@@ -53,4 +55,36 @@ public class XteaTest
 
 		assertArrayEquals(data, decData);
 	}
+
+	@Test
+	public void testInPlace()
+	{
+		byte[] data = "testtesttest1".getBytes(StandardCharsets.UTF_8);
+
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+		byte[] encrypted = new byte[]
+		{
+			121, -18, 48, 64, 120, -42, -113, 77, 116, 101, 115, 116, 49
+		};
+
+		Xtea xtea = new Xtea(key);
+		byte[] buf = new byte[data.length + 2];
+		System.arraycopy(data, 0, buf, 1, data.length);
+		xtea.encrypt(buf, 1, data.length);
+		assertArrayEquals(encrypted, Arrays.copyOfRange(buf, 1, 1 + data.length));
+
+		xtea.decrypt(buf, 1, data.length);
+		assertArrayEquals(data, Arrays.copyOfRange(buf, 1, 1 + data.length));
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(encrypted.length);
+		buffer.put(encrypted);
+		buffer.flip();
+		xtea.decrypt(buffer);
+		byte[] decData = new byte[buffer.remaining()];
+		buffer.get(decData);
+		assertArrayEquals(data, decData);
+	}
 }
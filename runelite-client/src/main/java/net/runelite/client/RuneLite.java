@@ -93,6 +93,7 @@ import net.runelite.client.ui.overlay.tooltip.TooltipOverlay;
 import net.runelite.client.ui.overlay.worldmap.WorldMapOverlay;
 import net.runelite.client.util.OSType;
 import net.runelite.client.util.ReflectUtil;
+import net.runelite.client.util.StartupTracer;
 import net.runelite.http.api.RuneLiteAPI;
 import okhttp3.Cache;
 import okhttp3.OkHttpClient;
@@ -229,8 +230,14 @@ public class RuneLite
 
 			new Thread(() ->
 			{
-				clientLoader.get();
-				ClassPreloader.preload();
+				try (var span = StartupTracer.span("Load client"))
+				{
+					clientLoader.get();
+				}
+				try (var span = StartupTracer.span("Preload classes"))
+				{
+					ClassPreloader.preload();
+				}
 			}, "Preloader").start();
 
 			final boolean developerMode = options.has("developer-mode") && RuneLiteProperties.getLauncherVersion() == null;
@@ -260,6 +267,7 @@ public class RuneLite
 			log.info("Java VM arguments: {}", String.join(" ", runtime.getInputArguments()));
 
 			final long start = System.currentTimeMillis();
+			StartupTracer.Span injectorSpan = StartupTracer.span("Create injector");
 			injector = Guice.createInjector(new RuneLiteModule(
 				okHttpClient,
 				clientLoader,
@@ -273,11 +281,15 @@ public class RuneLite
 				options.has("noupdate")
 			));
 
-			injector.getInstance(RuneLite.class).start();
+			RuneLite runeLite = injector.getInstance(RuneLite.class);
+			injectorSpan.close();
+			runeLite.start();
 
 			final long end = System.currentTimeMillis();
 			final long uptime = runtime.getUptime();
 			log.info("Client initialization took {}ms. Uptime: {}ms", end - start, uptime);
+
+			StartupTracer.finish(new File(LOGS_DIR, "startup-trace.json"));
 		}
 		catch (Exception e)
 		{
@@ -296,13 +308,19 @@ public class RuneLite
 	public void start() throws Exception
 	{
 		// Inject members into client
-		injector.injectMembers(client);
+		try (var span = StartupTracer.span("Inject client"))
+		{
+			injector.injectMembers(client);
+		}
 
 		setupSystemProps();
 		setupCompilerControl();
 
 		// Start the applet
-		copyJagexCache();
+		try (var span = StartupTracer.span("Copy jagex cache"))
+		{
+			copyJagexCache();
+		}
 
 		// Client size must be set prior to init
 		var applet = (Applet) client;
@@ -311,32 +329,50 @@ public class RuneLite
 		System.setProperty("jagex.disableBouncyCastle", "true");
 		System.setProperty("jagex.userhome", RUNELITE_DIR.getAbsolutePath());
 
-		applet.init();
-		applet.start();
+		try (var span = StartupTracer.span("Applet init"))
+		{
+			applet.init();
+			applet.start();
+		}
 
 		SplashScreen.stage(.57, null, "Loading configuration");
 
 		// Load the session so that the session profiles can be loaded next
-		sessionManager.loadSession();
+		try (var span = StartupTracer.span("Load session"))
+		{
+			sessionManager.loadSession();
+		}
 
 		// Load user configuration
-		configManager.load();
+		try (var span = StartupTracer.span("Load config"))
+		{
+			configManager.load();
+		}
 
 		// Update check requires ConfigManager to be ready before it runs
-		Updater updater = injector.getInstance(Updater.class);
-		updater.update(); // will exit if an update is in progress
+		try (var span = StartupTracer.span("Update check"))
+		{
+			Updater updater = injector.getInstance(Updater.class);
+			updater.update(); // will exit if an update is in progress
+		}
 
 		// Load the plugins, but does not start them yet.
 		// This will initialize configuration
-		pluginManager.loadCorePlugins();
-		pluginManager.loadSideLoadPlugins();
-		externalPluginManager.loadExternalPlugins();
+		try (var span = StartupTracer.span("Load plugins"))
+		{
+			pluginManager.loadCorePlugins();
+			pluginManager.loadSideLoadPlugins();
+			externalPluginManager.loadExternalPlugins();
+		}
 
 		SplashScreen.stage(.70, null, "Finalizing configuration");
 
 		// Plugins have provided their config, so set default config
 		// to main settings
-		pluginManager.loadDefaultPluginConfiguration(null);
+		try (var span = StartupTracer.span("Default plugin config"))
+		{
+			pluginManager.loadDefaultPluginConfiguration(null);
+		}
 
 		// Start client session
 		clientSessionManager.start();
@@ -345,10 +381,16 @@ public class RuneLite
 		SplashScreen.stage(.75, null, "Starting core interface");
 
 		// Initialize UI
-		clientUI.init();
+		try (var span = StartupTracer.span("UI init"))
+		{
+			clientUI.init();
+		}
 
 		// Initialize Discord service
-		discordService.init();
+		try (var span = StartupTracer.span("Discord init"))
+		{
+			discordService.init();
+		}
 
 		// Register event listeners
 		eventBus.register(clientUI);
@@ -364,11 +406,17 @@ public class RuneLite
 		overlayManager.add(tooltipOverlay.get());
 
 		// Start plugins
-		pluginManager.startPlugins();
+		try (var span = StartupTracer.span("Start plugins"))
+		{
+			pluginManager.startPlugins();
+		}
 
 		SplashScreen.stop();
 
-		clientUI.show();
+		try (var span = StartupTracer.span("Show UI"))
+		{
+			clientUI.show();
+		}
 
 		if (telemetryClient != null)
 		{
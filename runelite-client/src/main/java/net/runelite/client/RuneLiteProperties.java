@@ -39,6 +39,7 @@ public class RuneLiteProperties
 	private static final String DISCORD_INVITE = "runelite.discord.invite";
 	private static final String LAUNCHER_VERSION_PROPERTY = "runelite.launcher.version";
 	private static final String INSECURE_SKIP_TLS_VERIFICATION_PROPERTY = "runelite.insecure-skip-tls-verification";
+	private static final String PARALLEL_PLUGIN_STARTUP_PROPERTY = "runelite.parallel-plugin-startup";
 	private static final String TROUBLESHOOTING_LINK = "runelite.wiki.troubleshooting.link";
 	private static final String BUILDING_LINK = "runelite.wiki.building.link";
 	private static final String DNS_CHANGE_LINK = "runelite.dnschange.link";
@@ -96,6 +97,11 @@ public class RuneLiteProperties
 		return Boolean.getBoolean(INSECURE_SKIP_TLS_VERIFICATION_PROPERTY);
 	}
 
+	public static boolean isParallelPluginStartup()
+	{
+		return Boolean.getBoolean(PARALLEL_PLUGIN_STARTUP_PROPERTY);
+	}
+
 	public static String getTroubleshootingLink()
 	{
 		return properties.getProperty(TROUBLESHOOTING_LINK);
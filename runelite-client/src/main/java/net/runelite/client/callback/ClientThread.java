@@ -25,10 +25,16 @@
 package net.runelite.client.callback;
 
 import com.google.inject.Inject;
+import java.util.ArrayDeque;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 
@@ -36,8 +42,103 @@ import net.runelite.api.Client;
 @Slf4j
 public class ClientThread
 {
-	private final ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
-	private final ConcurrentLinkedQueue<BooleanSupplier> invokesAtTickEnd = new ConcurrentLinkedQueue<>();
+	/**
+	 * The priority of a task. Each cycle high priority tasks run first and are never held back by the
+	 * frame budget, then normal and finally low priority tasks run while the budget allows. The budget
+	 * starts once the high priority tasks have run.
+	 */
+	public enum Priority
+	{
+		HIGH,
+		NORMAL,
+		LOW
+	}
+
+	/**
+	 * A snapshot of the client thread's task queues and the tasks it has run
+	 */
+	@Value
+	public static class Metrics
+	{
+		private final int highQueued;
+		private final int normalQueued;
+		private final int lowQueued;
+		private final int tickEndQueued;
+		/**
+		 * Tasks waiting for their delay to elapse or for the next game tick
+		 */
+		private final int scheduled;
+		/**
+		 * Task invocations, including deferred tasks being run again
+		 */
+		private final long tasksRun;
+		/**
+		 * Times a task returned false to be run again
+		 */
+		private final long tasksDeferred;
+		/**
+		 * Cycles which stopped running tasks because the frame budget was used up
+		 */
+		private final long budgetOverruns;
+		/**
+		 * Average and max time from a task being queued to it first running
+		 */
+		private final long averageLatencyNanos;
+		private final long maxLatencyNanos;
+		private final long lastCycleNanos;
+	}
+
+	private static final class Task
+	{
+		private final BooleanSupplier supplier;
+		private final Priority priority;
+		// 0 to retry deferred tasks every cycle, TICK to retry them the next game tick, otherwise
+		// the nanos to wait before retrying
+		private final long delay;
+		private final long queued = System.nanoTime();
+		private boolean started;
+		// the nanoTime or game tick the task is waiting for
+		private long due;
+
+		Task(BooleanSupplier supplier, Priority priority, long delay)
+		{
+			this.supplier = supplier;
+			this.priority = priority;
+			this.delay = delay;
+		}
+
+		@Override
+		public String toString()
+		{
+			return supplier.toString();
+		}
+	}
+
+	private static final long TICK = -1;
+
+	private final ConcurrentLinkedQueue<Task> invokesHigh = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<Task> invokes = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<Task> invokesLow = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<Task> invokesAtTickEnd = new ConcurrentLinkedQueue<>();
+
+	// tasks which are waiting for a delay or game tick, added from any thread
+	private final ConcurrentLinkedQueue<Task> scheduledIncoming = new ConcurrentLinkedQueue<>();
+	// client thread only
+	private final PriorityQueue<Task> delayed = new PriorityQueue<>(Comparator.comparingLong(t -> t.due));
+	private final ArrayDeque<Task> nextTick = new ArrayDeque<>();
+	private final AtomicInteger scheduledCount = new AtomicInteger();
+
+	// 0 for no limit
+	private volatile long frameBudgetNanos;
+
+	// metrics, only written on the client thread
+	private volatile long tasksRun;
+	private volatile long tasksDeferred;
+	private volatile long budgetOverruns;
+	private volatile long tasksStarted;
+	private volatile long totalLatencyNanos;
+	private volatile long maxLatencyNanos;
+	private volatile long lastCycleNanos;
 
 	@Inject
 	private Client client;
@@ -56,17 +157,26 @@ public class ClientThread
 	 * If r returns false, r will be ran again, at a later point
 	 */
 	public void invoke(BooleanSupplier r)
+	{
+		invoke(r, Priority.NORMAL);
+	}
+
+	/**
+	 * Will run r on the game thread, at an unspecified point in the future.
+	 * If r returns false, r will be ran again, at a later point, with the given priority
+	 */
+	public void invoke(BooleanSupplier r, Priority priority)
 	{
 		if (client.isClientThread())
 		{
 			if (!r.getAsBoolean())
 			{
-				invokes.add(r);
+				queue(priority).add(new Task(r, priority, 0));
 			}
 			return;
 		}
 
-		invokeLater(r);
+		invokeLater(r, priority);
 	}
 
 	/**
@@ -84,39 +194,178 @@ public class ClientThread
 
 	public void invokeLater(BooleanSupplier r)
 	{
-		invokes.add(r);
+		invokeLater(r, Priority.NORMAL);
+	}
+
+	public void invokeLater(BooleanSupplier r, Priority priority)
+	{
+		queue(priority).add(new Task(r, priority, 0));
+	}
+
+	/**
+	 * Will run r on the game thread once the delay has elapsed.
+	 * If r returns false, r will be ran again once the delay has elapsed again, instead of every cycle
+	 */
+	public void invokeAfter(BooleanSupplier r, long delay, TimeUnit unit)
+	{
+		final long nanos = Math.max(1, unit.toNanos(delay));
+		final Task task = new Task(r, Priority.NORMAL, nanos);
+		task.due = task.queued + nanos;
+		schedule(task);
+	}
+
+	/**
+	 * Will run r on the game thread during the next game tick.
+	 * If r returns false, r will be ran again the following game tick, instead of every cycle
+	 */
+	public void invokeNextTick(BooleanSupplier r)
+	{
+		final Task task = new Task(r, Priority.NORMAL, TICK);
+		task.due = client.getTickCount();
+		schedule(task);
 	}
 
 	public void invokeAtTickEnd(Runnable r)
 	{
-		invokesAtTickEnd.add(() ->
+		invokesAtTickEnd.add(new Task(() ->
 		{
 			r.run();
 			return true;
-		});
+		}, Priority.NORMAL, 0));
+	}
+
+	/**
+	 * Limits the time spent running normal and low priority tasks each cycle. Tasks which don't fit
+	 * in the budget run in a later cycle. At least one normal and one low priority task run each cycle,
+	 * and a task is never interrupted, so a cycle may still overrun the budget by the duration of its
+	 * last tasks.
+	 *
+	 * @param budget the budget, or 0 to run all queued tasks every cycle
+	 */
+	public void setFrameBudget(long budget, TimeUnit unit)
+	{
+		frameBudgetNanos = unit.toNanos(budget);
+	}
+
+	public Metrics getMetrics()
+	{
+		final long started = tasksStarted;
+		return new Metrics(
+			invokesHigh.size(),
+			invokes.size(),
+			invokesLow.size(),
+			invokesAtTickEnd.size(),
+			scheduledCount.get(),
+			tasksRun,
+			tasksDeferred,
+			budgetOverruns,
+			started == 0 ? 0 : totalLatencyNanos / started,
+			maxLatencyNanos,
+			lastCycleNanos
+		);
 	}
 
 	void invoke()
 	{
-		invokeList(invokes);
+		final long start = System.nanoTime();
+		releaseScheduled(start);
+
+		invokeList(invokesHigh, 0, 0);
+
+		// high priority tasks aren't budgeted, so they don't use up the budget of the others
+		final long budget = frameBudgetNanos;
+		final long deadline = System.nanoTime() + budget;
+		invokeList(invokes, budget, deadline);
+		invokeList(invokesLow, budget, deadline);
+
+		lastCycleNanos = System.nanoTime() - start;
 	}
 
 	void invokeTickEnd()
 	{
-		invokeList(invokesAtTickEnd);
+		invokeList(invokesAtTickEnd, 0, 0);
+	}
+
+	private ConcurrentLinkedQueue<Task> queue(Priority priority)
+	{
+		switch (priority)
+		{
+			case HIGH:
+				return invokesHigh;
+			case LOW:
+				return invokesLow;
+			default:
+				return invokes;
+		}
+	}
+
+	private void schedule(Task task)
+	{
+		scheduledCount.incrementAndGet();
+		scheduledIncoming.add(task);
+	}
+
+	/**
+	 * Queue the scheduled tasks whose delay has elapsed or whose tick has come
+	 */
+	private void releaseScheduled(long now)
+	{
+		Task task;
+		while ((task = scheduledIncoming.poll()) != null)
+		{
+			if (task.delay == TICK)
+			{
+				nextTick.add(task);
+			}
+			else
+			{
+				delayed.add(task);
+			}
+		}
+
+		final int tick = client.getTickCount();
+		while (!nextTick.isEmpty() && nextTick.peek().due != tick)
+		{
+			release(nextTick.poll());
+		}
+
+		while (!delayed.isEmpty() && delayed.peek().due - now <= 0)
+		{
+			release(delayed.poll());
+		}
+	}
+
+	private void release(Task task)
+	{
+		scheduledCount.decrementAndGet();
+		queue(task.priority).add(task);
 	}
 
-	private void invokeList(ConcurrentLinkedQueue<BooleanSupplier> invokes)
+	private void invokeList(ConcurrentLinkedQueue<Task> invokes, long budget, long deadline)
 	{
 		assert client.isClientThread();
-		Iterator<BooleanSupplier> ir = invokes.iterator();
+		boolean ran = false;
+		Iterator<Task> ir = invokes.iterator();
 		while (ir.hasNext())
 		{
-			BooleanSupplier r = ir.next();
+			// always run at least one task so that a small budget can't stall the queue
+			if (budget > 0 && ran && System.nanoTime() - deadline >= 0)
+			{
+				++budgetOverruns;
+				return;
+			}
+
+			Task task = ir.next();
+			if (!task.started)
+			{
+				task.started = true;
+				recordLatency(System.nanoTime() - task.queued);
+			}
+
 			boolean remove = true;
 			try
 			{
-				remove = r.getAsBoolean();
+				remove = task.supplier.getAsBoolean();
 			}
 			catch (ThreadDeath d)
 			{
@@ -126,14 +375,36 @@ public class ClientThread
 			{
 				log.error("Exception in invoke", e);
 			}
+
+			++tasksRun;
+			ran = true;
 			if (remove)
 			{
 				ir.remove();
 			}
 			else
 			{
-				log.trace("Deferring task {}", r);
+				++tasksDeferred;
+				log.trace("Deferring task {}", task);
+
+				if (task.delay != 0)
+				{
+					// wait for the delay or tick again instead of running every cycle
+					ir.remove();
+					task.due = task.delay == TICK ? client.getTickCount() : System.nanoTime() + task.delay;
+					schedule(task);
+				}
 			}
 		}
 	}
+
+	private void recordLatency(long latency)
+	{
+		++tasksStarted;
+		totalLatencyNanos += latency;
+		if (latency > maxLatencyNanos)
+		{
+			maxLatencyNanos = latency;
+		}
+	}
 }
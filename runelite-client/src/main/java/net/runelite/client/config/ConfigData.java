@@ -43,6 +43,8 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.BiConsumer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -51,6 +53,8 @@ class ConfigData
 	private final File configPath;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted copy of the property keys for prefix queries, updated along with properties
+	private final ConcurrentSkipListSet<String> sortedKeys;
 	private Map<String, String> patchChanges = new HashMap<>();
 
 	ConfigData(File configPath)
@@ -73,6 +77,7 @@ class ConfigData
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		sortedKeys = new ConcurrentSkipListSet<>(properties.keySet());
 	}
 
 	String getProperty(String key)
@@ -83,6 +88,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			sortedKeys.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +104,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			sortedKeys.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -104,6 +114,7 @@ class ConfigData
 	{
 		patchChanges.putAll(values);
 		properties.putAll(values);
+		sortedKeys.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +122,27 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Calls the consumer with each property whose key starts with the given prefix, in key order.
+	 * This only visits the matching keys, rather than every key in the config.
+	 */
+	void forEachWithPrefix(String prefix, BiConsumer<String, String> consumer)
+	{
+		for (String key : sortedKeys.tailSet(prefix))
+		{
+			if (!key.startsWith(prefix))
+			{
+				break;
+			}
+
+			String value = properties.get(key);
+			if (value != null)
+			{
+				consumer.accept(key, value);
+			}
+		}
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -28,7 +28,10 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
@@ -42,6 +45,8 @@ class ConfigInvocationHandler implements InvocationHandler
 	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
 		.maximumSize(256)
 		.build();
+	// Methods which have been cached, indexed by group.key, so writes only invalidate the entries they affect
+	private final Map<String, Set<Method>> methods = new ConcurrentHashMap<>();
 
 	ConfigInvocationHandler(ConfigManager manager)
 	{
@@ -105,11 +110,11 @@ class ConfigInvocationHandler implements InvocationHandler
 				if (method.isDefault())
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					cache(group, item, method, defaultValue == null ? NULL : defaultValue);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				cache(group, item, method, NULL);
 				return null;
 			}
 
@@ -117,7 +122,7 @@ class ConfigInvocationHandler implements InvocationHandler
 			try
 			{
 				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				cache(group, item, method, objectValue == null ? NULL : objectValue);
 				return objectValue;
 			}
 			catch (Exception e)
@@ -184,9 +189,26 @@ class ConfigInvocationHandler implements InvocationHandler
 			.invokeWithArguments(args);
 	}
 
+	private void cache(ConfigGroup group, ConfigItem item, Method method, Object value)
+	{
+		methods.computeIfAbsent(group.value() + "." + item.keyName(), k -> ConcurrentHashMap.newKeySet())
+			.add(method);
+		cache.put(method, value);
+	}
+
 	void invalidate()
 	{
 		log.trace("cache invalidate");
 		cache.invalidateAll();
 	}
+
+	void invalidate(String group, String key)
+	{
+		Set<Method> invalidated = methods.get(group + "." + key);
+		if (invalidated != null)
+		{
+			log.trace("cache invalidate (group: {}, key: {})", group, key);
+			cache.invalidateAll(invalidated);
+		}
+	}
 }
@@ -49,6 +49,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -770,9 +771,9 @@ public class ConfigManager
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		List<String> keys = new ArrayList<>();
+		configProfile.forEachWithPrefix(prefix, (k, v) -> keys.add(k));
+		return keys;
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -784,11 +785,29 @@ public class ConfigManager
 
 		assert profile.startsWith(RSPROFILE_GROUP);
 
-		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
-			.collect(Collectors.toList());
+		String prefix = group + "." + profile + ".";
+		List<String> keys = new ArrayList<>();
+		rsProfileConfigProfile.forEachWithPrefix(prefix + keyPrefix, (k, v) -> keys.add(k.substring(prefix.length())));
+		return keys;
+	}
+
+	/**
+	 * Get the values of every configuration key of a group starting with the given prefix
+	 *
+	 * @param group the config group
+	 * @param profile the rs profile key, or null for the regular config
+	 * @param keyPrefix the key prefix, excluding the group and profile
+	 * @return the values, keyed by their key without the group and profile, in key order
+	 */
+	public Map<String, String> getConfigurations(String group, String profile, String keyPrefix)
+	{
+		assert profile == null || profile.startsWith(RSPROFILE_GROUP);
+
+		ConfigData configData = profile == null ? configProfile : rsProfileConfigProfile;
+		String prefix = getWholeKey(group, profile, "");
+		Map<String, String> values = new LinkedHashMap<>();
+		configData.forEachWithPrefix(prefix + keyPrefix, (k, v) -> values.put(k.substring(prefix.length()), v));
+		return values;
 	}
 
 	public static String getWholeKey(String groupName, String profile, String key)
@@ -889,7 +908,11 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		if (profile == null)
+		{
+			// config proxies only read from the non-rs profile
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -981,7 +1004,10 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		if (profile == null)
+		{
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -1462,21 +1488,14 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		rsProfileConfigProfile.forEachWithPrefix(prefix, (key, value) ->
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
-			if (split == null)
+			if (split != null)
 			{
-				continue;
+				profileKeys.add(split[KEY_SPLITTER_PROFILE]);
 			}
-
-			profileKeys.add(split[KEY_SPLITTER_PROFILE]);
-		}
+		});
 
 		return profileKeys.stream()
 			.map(key ->
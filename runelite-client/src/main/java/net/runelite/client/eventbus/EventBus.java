@@ -26,21 +26,36 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -62,6 +77,10 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		@Getter(AccessLevel.NONE)
+		private final SubscriberStats stats = new SubscriberStats();
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -76,10 +95,46 @@ public class EventBus
 		}
 	}
 
+	/**
+	 * The subscribers of one event class, in dispatch order. The array is replaced, never modified,
+	 * so post can iterate it without locking or allocating.
+	 */
+	private static final class Dispatch
+	{
+		private volatile Subscriber[] subscribers = NO_SUBSCRIBERS;
+	}
+
+	/**
+	 * Enabled instrumentation. The bean is null if allocations are not being recorded.
+	 */
+	@RequiredArgsConstructor
+	private static final class Instrumentation
+	{
+		private final com.sun.management.ThreadMXBean allocations;
+	}
+
+	private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
+	private static final Comparator<Subscriber> ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
+
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	private final ClassValue<Dispatch> dispatch = new ClassValue<>()
+	{
+		@Override
+		protected Dispatch computeValue(Class<?> type)
+		{
+			return new Dispatch();
+		}
+	};
+
+	// null when disabled, so post pays only for reading it
+	private volatile Instrumentation instrumentation;
+
+	// subscribers by event class, and the event classes of each subscriber object. Guarded by this.
+	private final Map<Class<?>, List<Subscriber>> subscribers = new HashMap<>();
+	private final Map<Object, Set<Class<?>>> eventClasses = new IdentityHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +153,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final ListMultimap<Class<?>, Subscriber> added = ArrayListMultimap.create();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -159,26 +211,21 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				added.put(parameterClazz, subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		for (final Class<?> clazz : added.keySet())
+		{
+			add(clazz, added.get(clazz));
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
-
-		subscribers = builder.build();
-
+		add(clazz, Collections.singletonList(sub));
 		return sub;
 	}
 
@@ -189,10 +236,16 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		final Set<Class<?>> classes = eventClasses.remove(object);
+		if (classes == null)
+		{
+			return;
+		}
+
+		for (final Class<?> clazz : classes)
+		{
+			remove(clazz, s -> s.getObject() == object);
+		}
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +255,55 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		final Set<Class<?>> classes = eventClasses.get(sub.getObject());
+		if (classes == null)
+		{
+			return;
+		}
+
+		classes.removeIf(clazz ->
+		{
+			remove(clazz, s -> s == sub);
+			final List<Subscriber> list = subscribers.get(clazz);
+			return list == null || list.stream().noneMatch(s -> s.getObject() == sub.getObject());
+		});
+
+		if (classes.isEmpty())
+		{
+			eventClasses.remove(sub.getObject());
+		}
+	}
+
+	private void add(final Class<?> clazz, final Collection<Subscriber> subs)
+	{
+		final List<Subscriber> list = subscribers.computeIfAbsent(clazz, k -> new ArrayList<>());
+		list.addAll(subs);
+		list.sort(ORDER);
+		dispatch.get(clazz).subscribers = list.toArray(NO_SUBSCRIBERS);
+
+		for (final Subscriber sub : subs)
+		{
+			eventClasses.computeIfAbsent(sub.getObject(), k -> new HashSet<>()).add(clazz);
+		}
+	}
+
+	private void remove(final Class<?> clazz, final Predicate<Subscriber> filter)
+	{
+		final List<Subscriber> list = subscribers.get(clazz);
+		if (list == null || !list.removeIf(filter))
+		{
+			return;
+		}
+
+		if (list.isEmpty())
+		{
+			subscribers.remove(clazz);
+			dispatch.get(clazz).subscribers = NO_SUBSCRIBERS;
+		}
+		else
+		{
+			dispatch.get(clazz).subscribers = list.toArray(NO_SUBSCRIBERS);
+		}
 	}
 
 	/**
@@ -216,7 +314,15 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subscribers = dispatch.get(event.getClass()).subscribers;
+		final Instrumentation instrumentation = this.instrumentation;
+		if (instrumentation != null)
+		{
+			postInstrumented(instrumentation, subscribers, event);
+			return;
+		}
+
+		for (final Subscriber subscriber : subscribers)
 		{
 			try
 			{
@@ -228,4 +334,122 @@ public class EventBus
 			}
 		}
 	}
+
+	private void postInstrumented(final Instrumentation instrumentation, final Subscriber[] subscribers, final Object event)
+	{
+		final com.sun.management.ThreadMXBean allocations = instrumentation.allocations;
+		final long threadId = Thread.currentThread().getId();
+
+		for (final Subscriber subscriber : subscribers)
+		{
+			final long allocatedStart = allocations != null ? allocations.getThreadAllocatedBytes(threadId) : 0;
+			final long start = System.nanoTime();
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
+			finally
+			{
+				final long nanos = System.nanoTime() - start;
+				final long allocated = allocations != null ? allocations.getThreadAllocatedBytes(threadId) - allocatedStart : 0;
+				subscriber.stats.record(nanos, allocated);
+			}
+		}
+	}
+
+	/**
+	 * Starts recording the invocation count and time of each subscriber. Until instrumentation is enabled
+	 * post does no extra work.
+	 *
+	 * @param recordAllocations also record the bytes allocated by the posting thread during each invocation,
+	 *                          if the JVM supports it
+	 */
+	public void enableInstrumentation(boolean recordAllocations)
+	{
+		com.sun.management.ThreadMXBean allocations = null;
+		if (recordAllocations)
+		{
+			final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if (threadMXBean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported())
+			{
+				allocations = (com.sun.management.ThreadMXBean) threadMXBean;
+				allocations.setThreadAllocatedMemoryEnabled(true);
+			}
+			else
+			{
+				log.debug("Thread allocation recording is not supported");
+			}
+		}
+
+		instrumentation = new Instrumentation(allocations);
+	}
+
+	/**
+	 * Stops recording subscriber statistics. Recorded statistics are kept until {@link #resetInstrumentation()}.
+	 */
+	public void disableInstrumentation()
+	{
+		instrumentation = null;
+	}
+
+	public boolean isInstrumentationEnabled()
+	{
+		return instrumentation != null;
+	}
+
+	/**
+	 * Clears the recorded statistics of all subscribers
+	 */
+	public synchronized void resetInstrumentation()
+	{
+		for (final List<Subscriber> list : subscribers.values())
+		{
+			for (final Subscriber subscriber : list)
+			{
+				subscriber.stats.reset();
+			}
+		}
+	}
+
+	/**
+	 * Gets the recorded statistics of the registered subscribers
+	 */
+	public synchronized List<SubscriberSnapshot> getSubscriberSnapshots()
+	{
+		final Instrumentation instrumentation = this.instrumentation;
+		final boolean allocations = instrumentation != null && instrumentation.allocations != null;
+		final List<SubscriberSnapshot> snapshots = new ArrayList<>();
+		for (final Map.Entry<Class<?>, List<Subscriber>> entry : subscribers.entrySet())
+		{
+			for (final Subscriber subscriber : entry.getValue())
+			{
+				final SubscriberStats stats = subscriber.stats;
+				snapshots.add(new SubscriberSnapshot(
+					subscriberName(subscriber),
+					subscriber.method != null ? subscriber.method.getName() : null,
+					entry.getKey(),
+					subscriber.priority,
+					stats.getInvocations(),
+					stats.getTotalNanos(),
+					stats.getMaxNanos(),
+					allocations ? stats.getAllocatedBytes() : -1
+				));
+			}
+		}
+		return snapshots;
+	}
+
+	private static String subscriberName(final Subscriber subscriber)
+	{
+		final Class<?> clazz = subscriber.method != null ? subscriber.method.getDeclaringClass() : subscriber.object.getClass();
+		final String name = clazz.getName();
+		// lambdas registered as subscribers are named after the class which declares them
+		final int lambda = name.indexOf("$$Lambda");
+		return lambda != -1 ? name.substring(0, lambda) : name;
+	}
 }
@@ -26,12 +26,14 @@ package net.runelite.client.plugins;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.graph.Graph;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.gson.Gson;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
@@ -39,6 +41,8 @@ import com.google.inject.Key;
 import com.google.inject.Module;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -46,15 +50,25 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -64,6 +78,7 @@ import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.RuneLite;
+import net.runelite.client.RuneLiteProperties;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
@@ -77,6 +92,7 @@ import net.runelite.client.task.Scheduler;
 import net.runelite.client.ui.SplashScreen;
 import net.runelite.client.util.GameEventManager;
 import net.runelite.client.util.ReflectUtil;
+import net.runelite.client.util.StartupTracer;
 
 @Singleton
 @Slf4j
@@ -86,6 +102,16 @@ public class PluginManager
 	 * Base package where the core plugins are
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	/**
+	 * Index of the core plugins, generated by runelite-maven-plugin
+	 */
+	private static final String PLUGIN_INDEX = "plugins.json";
+	private static final int MAX_INSTANTIATE_THREADS = 8;
+	/**
+	 * How long to keep starting plugins on the EDT before letting it process other events, such as
+	 * repainting the splash screen
+	 */
+	private static final long START_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
 	private final boolean developerMode;
@@ -96,6 +122,12 @@ public class PluginManager
 	private final Provider<GameEventManager> sceneTileManager;
 	private final List<Plugin> plugins = new CopyOnWriteArrayList<>();
 	private final List<Plugin> activePlugins = new CopyOnWriteArrayList<>();
+	private final Map<Class<?>, PluginStartupTiming> startupTimings = new ConcurrentHashMap<>();
+
+	/**
+	 * Instantiate each dependency layer of plugins in parallel, and start plugins in batches
+	 */
+	private boolean parallelStartup = RuneLiteProperties.isParallelPluginStartup();
 
 	@Inject
 	@VisibleForTesting
@@ -225,22 +257,26 @@ public class PluginManager
 	public void startPlugins()
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
-		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		int[] loaded = {0};
+		while (loaded[0] < scannedPlugins.size())
 		{
 			try
 			{
 				SwingUtilities.invokeAndWait(() ->
 				{
-					try
+					if (!parallelStartup)
 					{
-						startPlugin(plugin);
+						startPluginTimed(scannedPlugins.get(loaded[0]++));
+						return;
 					}
-					catch (PluginInstantiationException ex)
+
+					// start as many plugins as fit in the batch, so there are fewer round trips to the EDT
+					long end = System.nanoTime() + START_BATCH_NANOS;
+					do
 					{
-						log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
-						plugins.remove(plugin);
+						startPluginTimed(scannedPlugins.get(loaded[0]++));
 					}
+					while (loaded[0] < scannedPlugins.size() && System.nanoTime() - end < 0);
 				});
 			}
 			catch (InterruptedException | InvocationTargetException e)
@@ -248,29 +284,121 @@ public class PluginManager
 				throw new RuntimeException(e);
 			}
 
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded[0], scannedPlugins.size(), false);
 		}
 
 		for (Plugin plugin : plugins)
 		{
 			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
 		}
+
+		if (log.isDebugEnabled())
+		{
+			getStartupTimings().stream()
+				.sorted(Comparator.comparingLong(PluginStartupTiming::getTotalNanos).reversed())
+				.forEach(t -> log.debug("Plugin {} instantiated in {}ms, started in {}ms", t.getName(),
+					TimeUnit.NANOSECONDS.toMillis(t.getInstantiateNanos()), TimeUnit.NANOSECONDS.toMillis(t.getStartNanos())));
+		}
+	}
+
+	@VisibleForTesting
+	void setParallelStartup(boolean parallelStartup)
+	{
+		this.parallelStartup = parallelStartup;
+	}
+
+	private void startPluginTimed(Plugin plugin)
+	{
+		long start = System.nanoTime();
+		try (var span = StartupTracer.span("Start " + plugin.getClass().getSimpleName(), "plugin"))
+		{
+			startPlugin(plugin);
+		}
+		catch (PluginInstantiationException ex)
+		{
+			log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+			plugins.remove(plugin);
+		}
+		startupTiming(plugin.getClass()).setStartNanos(System.nanoTime() - start);
+	}
+
+	/**
+	 * Get the time taken to instantiate and start each plugin loaded by this plugin manager
+	 */
+	public List<PluginStartupTiming> getStartupTimings()
+	{
+		return new ArrayList<>(startupTimings.values());
+	}
+
+	private PluginStartupTiming startupTiming(Class<?> clazz)
+	{
+		return startupTimings.computeIfAbsent(clazz, c -> new PluginStartupTiming(c.getSimpleName()));
 	}
 
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		// The index can be out of date when developing in an IDE, so developer mode always scans the classpath
+		List<PluginIndexEntry> index = developerMode ? null : loadPluginIndex();
+		List<Class<?>> plugins;
+		if (index != null)
+		{
+			ClassLoader classLoader = getClass().getClassLoader();
+			plugins = new ArrayList<>(index.size());
+			for (PluginIndexEntry entry : index)
+			{
+				if (entry.isDeveloperPlugin())
+				{
+					continue;
+				}
+
+				try
+				{
+					plugins.add(classLoader.loadClass(entry.getClassName()));
+				}
+				catch (ClassNotFoundException ex)
+				{
+					throw new PluginInstantiationException(ex);
+				}
+			}
+		}
+		else
+		{
+			try (var span = StartupTracer.span("Scan plugins"))
+			{
+				ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+				plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+					.map(ClassInfo::load)
+					.collect(Collectors.toList());
+			}
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Read the index of the core plugins generated at build time
+	 *
+	 * @return the index, or null if there is none
+	 */
+	@VisibleForTesting
+	static List<PluginIndexEntry> loadPluginIndex() throws IOException
+	{
+		try (InputStream in = PluginManager.class.getResourceAsStream(PLUGIN_INDEX))
+		{
+			if (in == null)
+			{
+				log.debug("No plugin index, scanning the classpath for plugins");
+				return null;
+			}
+
+			PluginIndexEntry[] entries = new Gson().fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), PluginIndexEntry[].class);
+			return Arrays.asList(entries);
+		}
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -372,6 +500,10 @@ public class PluginManager
 		}
 
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
+		if (parallelStartup)
+		{
+			return instantiateParallel(graph, sortedPlugins, onPluginLoaded);
+		}
 
 		int loaded = 0;
 		List<Plugin> newPlugins = new ArrayList<>();
@@ -380,7 +512,7 @@ public class PluginManager
 			Plugin plugin;
 			try
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
+				plugin = instantiateTimed((Class<Plugin>) pluginClazz);
 				newPlugins.add(plugin);
 				this.plugins.add(plugin);
 			}
@@ -399,6 +531,100 @@ public class PluginManager
 		return newPlugins;
 	}
 
+	/**
+	 * Instantiate plugins one dependency layer at a time. A plugin's layer is one deeper than its deepest
+	 * dependency, so the plugins within a layer only depend on plugins already instantiated and can be
+	 * instantiated concurrently.
+	 */
+	private List<Plugin> instantiateParallel(Graph<Class<? extends Plugin>> graph, List<Class<? extends Plugin>> sortedPlugins,
+		BiConsumer<Integer, Integer> onPluginLoaded) throws PluginInstantiationException
+	{
+		Map<Class<? extends Plugin>, Integer> layerOf = new HashMap<>();
+		List<List<Class<? extends Plugin>>> layers = new ArrayList<>();
+		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		{
+			int layer = 0;
+			for (Class<? extends Plugin> dependency : graph.predecessors(pluginClazz))
+			{
+				layer = Math.max(layer, layerOf.get(dependency) + 1);
+			}
+
+			layerOf.put(pluginClazz, layer);
+			if (layer == layers.size())
+			{
+				layers.add(new ArrayList<>());
+			}
+			layers.get(layer).add(pluginClazz);
+		}
+
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), MAX_INSTANTIATE_THREADS);
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> new Thread(r, "Plugin instantiation"));
+		int loaded = 0;
+		List<Plugin> newPlugins = new ArrayList<>();
+		try
+		{
+			for (List<Class<? extends Plugin>> layer : layers)
+			{
+				List<Future<Plugin>> futures = new ArrayList<>(layer.size());
+				for (Class<? extends Plugin> pluginClazz : layer)
+				{
+					futures.add(executor.submit(() -> instantiateTimed((Class<Plugin>) pluginClazz)));
+				}
+
+				// collect in sorted order, so the plugin list is the same as when instantiating serially
+				for (Future<Plugin> future : futures)
+				{
+					try
+					{
+						Plugin plugin = future.get();
+						newPlugins.add(plugin);
+						this.plugins.add(plugin);
+					}
+					catch (ExecutionException ex)
+					{
+						Throwable cause = ex.getCause();
+						if (!(cause instanceof PluginInstantiationException))
+						{
+							Throwables.throwIfUnchecked(cause);
+							throw new PluginInstantiationException(cause);
+						}
+						log.error("Error instantiating plugin!", cause);
+					}
+					catch (InterruptedException ex)
+					{
+						Thread.currentThread().interrupt();
+						throw new PluginInstantiationException(ex);
+					}
+
+					loaded++;
+					if (onPluginLoaded != null)
+					{
+						onPluginLoaded.accept(loaded, sortedPlugins.size());
+					}
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		log.debug("Instantiated {} plugins in {} layers on {} threads", newPlugins.size(), layers.size(), threads);
+		return newPlugins;
+	}
+
+	private Plugin instantiateTimed(Class<Plugin> clazz) throws PluginInstantiationException
+	{
+		long start = System.nanoTime();
+		Plugin plugin;
+		try (var span = StartupTracer.span("Instantiate " + clazz.getSimpleName(), "plugin"))
+		{
+			plugin = instantiate(this.plugins, clazz);
+		}
+		startupTiming(clazz).setInstantiateNanos(System.nanoTime() - start);
+		return plugin;
+	}
+
 	public boolean startPlugin(Plugin plugin) throws PluginInstantiationException
 	{
 		// plugins always start in the EDT
@@ -60,6 +60,7 @@ class DevToolsPanel extends PluginPanel
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
 	private final InventoryInspector inventoryInspector;
+	private final EventBusInspector eventBusInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
 
@@ -73,6 +74,7 @@ class DevToolsPanel extends PluginPanel
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
 		InventoryInspector inventoryInspector,
+		EventBusInspector eventBusInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
 		ScheduledExecutorService scheduledExecutorService)
@@ -86,6 +88,7 @@ class DevToolsPanel extends PluginPanel
 		this.varInspector = varInspector;
 		this.inventoryInspector = inventoryInspector;
 		this.scriptInspector = scriptInspector;
+		this.eventBusInspector = eventBusInspector;
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
 		this.scheduledExecutorService = scheduledExecutorService;
@@ -200,6 +203,9 @@ class DevToolsPanel extends PluginPanel
 
 		container.add(plugin.getMenus());
 
+		container.add(plugin.getEventBusInspector());
+		plugin.getEventBusInspector().addFrame(eventBusInspector);
+
 		try
 		{
 			FlatUIDefaultsInspector.class.getName();
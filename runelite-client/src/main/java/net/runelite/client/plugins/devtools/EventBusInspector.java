@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.SubscriberSnapshot;
+
+/**
+ * Shows the time spent in, and optionally the memory allocated by, each event subscriber. The event
+ * bus is only instrumented while the inspector is open.
+ */
+class EventBusInspector extends DevToolsFrame
+{
+	private static final int REFRESH_MILLIS = 1000;
+
+	private final EventBus eventBus;
+	private final SubscriberTableModel tableModel = new SubscriberTableModel();
+	private final JCheckBox recordAllocations;
+	private final Timer refreshTimer;
+
+	@Inject
+	EventBusInspector(EventBus eventBus)
+	{
+		this.eventBus = eventBus;
+
+		setTitle("RuneLite Event Bus Inspector");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(tableModel);
+		table.setAutoCreateRowSorter(true);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(900, 500));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JPanel bottomPanel = new JPanel();
+		add(bottomPanel, BorderLayout.SOUTH);
+
+		recordAllocations = new JCheckBox("Record allocations");
+		recordAllocations.addItemListener(ev -> eventBus.enableInstrumentation(recordAllocations.isSelected()));
+		bottomPanel.add(recordAllocations);
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			eventBus.resetInstrumentation();
+			refresh();
+		});
+		bottomPanel.add(resetBtn);
+
+		refreshTimer = new Timer(REFRESH_MILLIS, e -> refresh());
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		eventBus.enableInstrumentation(recordAllocations.isSelected());
+		refresh();
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		refreshTimer.stop();
+		eventBus.disableInstrumentation();
+		super.close();
+	}
+
+	private void refresh()
+	{
+		tableModel.setSnapshots(eventBus.getSubscriberSnapshots());
+	}
+
+	private static class SubscriberTableModel extends AbstractTableModel
+	{
+		private static final String[] COLUMNS = {
+			"Subscriber", "Method", "Event", "Priority", "Calls", "Total ms", "Avg µs", "Max µs", "Allocated KB"
+		};
+
+		private List<SubscriberSnapshot> snapshots = new ArrayList<>();
+
+		void setSnapshots(List<SubscriberSnapshot> snapshots)
+		{
+			boolean structureChanged = snapshots.size() != this.snapshots.size();
+			this.snapshots = snapshots;
+			if (structureChanged)
+			{
+				fireTableDataChanged();
+			}
+			else
+			{
+				fireTableRowsUpdated(0, snapshots.size() - 1);
+			}
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return snapshots.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			switch (col)
+			{
+				case 0:
+				case 1:
+				case 2:
+					return String.class;
+				case 3:
+					return Float.class;
+				case 5:
+					return Double.class;
+				default:
+					return Long.class;
+			}
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			SubscriberSnapshot snapshot = snapshots.get(row);
+			switch (col)
+			{
+				case 0:
+					return snapshot.getSubscriber();
+				case 1:
+					return snapshot.getMethod();
+				case 2:
+					return snapshot.getEventType().getSimpleName();
+				case 3:
+					return snapshot.getPriority();
+				case 4:
+					return snapshot.getInvocations();
+				case 5:
+					return snapshot.getTotalNanos() / 1_000_000d;
+				case 6:
+					return snapshot.getAverageNanos() / 1_000;
+				case 7:
+					return snapshot.getMaxNanos() / 1_000;
+				case 8:
+					return snapshot.getAllocatedBytes() < 0 ? null : snapshot.getAllocatedBytes() / 1024;
+				default:
+					return null;
+			}
+		}
+	}
+}
@@ -37,6 +37,18 @@ class GpuFloatBuffer
 		buffer.put(s).put(t).put(p).put(q);
 	}
 
+	void put(FloatBuffer buffer)
+	{
+		ensureCapacity(buffer.remaining());
+		this.buffer.put(buffer);
+	}
+
+	void put(float[] array)
+	{
+		ensureCapacity(array.length);
+		buffer.put(array);
+	}
+
 	void flip()
 	{
 		buffer.flip();
@@ -40,6 +40,18 @@ class GpuIntBuffer
 			.put(w);
 	}
 
+	void put(IntBuffer buffer)
+	{
+		ensureCapacity(buffer.remaining());
+		this.buffer.put(buffer);
+	}
+
+	void put(int[] array)
+	{
+		ensureCapacity(array.length);
+		buffer.put(array);
+	}
+
 	void flip()
 	{
 		buffer.flip();
@@ -101,6 +101,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 	static final int MAX_DISTANCE = 184;
 	static final int MAX_FOG_DEPTH = 100;
 	static final int SCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2; // offset for sxy -> msxy
+	private static final int MAX_SCENE_UPLOAD_THREADS = 4;
 	private static final int GROUND_MIN_Y = 350; // how far below the ground models extend
 
 	@Inject
@@ -449,6 +450,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 			client.setExpandedMapLoading(0);
 
 			sceneUploader.releaseSortingBuffers();
+			sceneUploader.clearModelCache();
 
 			if (lwjglInitted)
 			{
@@ -1539,7 +1541,15 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 		GpuIntBuffer vertexBuffer = new GpuIntBuffer();
 		GpuFloatBuffer uvBuffer = new GpuFloatBuffer();
 
-		sceneUploader.upload(scene, vertexBuffer, uvBuffer);
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), MAX_SCENE_UPLOAD_THREADS);
+		if (threads > 1)
+		{
+			sceneUploader.uploadParallel(scene, vertexBuffer, uvBuffer, threads);
+		}
+		else
+		{
+			sceneUploader.upload(scene, vertexBuffer, uvBuffer);
+		}
 
 		vertexBuffer.flip();
 		uvBuffer.flip();
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import com.google.common.cache.AbstractCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.Model;
+
+/**
+ * Caches the packed vertex and uv data of scene models, so models which are in consecutive scenes, such as
+ * when crossing a region boundary, are copied instead of being packed again. Models are keyed by identity,
+ * and an entry is only used if the model still has the same counts and arrays, and was last uploaded in the
+ * scene the entry was, so a lookup is constant time regardless of the size of the model.
+ * Entries are evicted least recently used first once the cache is over its byte budget, and once their
+ * model is garbage collected.
+ */
+class ModelCache
+{
+	@RequiredArgsConstructor
+	private static final class PackedModel
+	{
+		private final int faceCount;
+		private final int verticesCount;
+		private final int override;
+		private final float[] verticesX;
+		private final float[] verticesY;
+		private final float[] verticesZ;
+		private final int[] faceColors1;
+		private final short[] faceTextures;
+
+		private final int[] vertices;
+		private final float[] uvs;
+
+		// the scene the model was last uploaded in
+		private int sceneId;
+
+		boolean matches(Model model, int lastSceneId)
+		{
+			return sceneId == lastSceneId
+				&& faceCount == model.getFaceCount()
+				&& verticesCount == model.getVerticesCount()
+				&& override == override(model)
+				&& verticesX == model.getVerticesX()
+				&& verticesY == model.getVerticesY()
+				&& verticesZ == model.getVerticesZ()
+				&& faceColors1 == model.getFaceColors1()
+				&& faceTextures == model.getFaceTextures();
+		}
+	}
+
+	private final Cache<Model, PackedModel> cache;
+	private final AbstractCache.SimpleStatsCounter stats = new AbstractCache.SimpleStatsCounter();
+
+	ModelCache(long maxBytes)
+	{
+		cache = CacheBuilder.newBuilder()
+			.weakKeys()
+			.maximumWeight(maxBytes)
+			.weigher((Model k, PackedModel v) -> (v.vertices.length + (v.uvs != null ? v.uvs.length : 0)) * Integer.BYTES)
+			.removalListener(notification ->
+			{
+				if (notification.wasEvicted())
+				{
+					stats.recordEviction();
+				}
+			})
+			.build();
+	}
+
+	/**
+	 * Push a model into the buffers, from the cache if its packed data is cached
+	 *
+	 * @param lastSceneId the scene id the model had before it was marked as part of this scene
+	 * @return the number of vertices pushed
+	 */
+	int push(SceneUploader sceneUploader, Model model, int lastSceneId, GpuIntBuffer vertexBuffer, GpuFloatBuffer uvBuffer)
+	{
+		// look up through asMap(), which doesn't record stats, since an entry which doesn't match the model is a miss
+		PackedModel packed = cache.asMap().get(model);
+		if (packed != null && packed.matches(model, lastSceneId))
+		{
+			stats.recordHits(1);
+			packed.sceneId = sceneUploader.sceneId;
+			vertexBuffer.put(packed.vertices);
+			if (packed.uvs != null)
+			{
+				uvBuffer.put(packed.uvs);
+			}
+			return packed.vertices.length / 4;
+		}
+
+		stats.recordMisses(1);
+
+		final int vertexPosition = vertexBuffer.getBuffer().position();
+		final int uvPosition = uvBuffer.getBuffer().position();
+		final int len = sceneUploader.pushModel(model, vertexBuffer, uvBuffer);
+
+		// read the packed data back out of the buffers
+		int[] vertices = new int[vertexBuffer.getBuffer().position() - vertexPosition];
+		vertexBuffer.getBuffer().duplicate().position(vertexPosition).get(vertices);
+
+		float[] uvs = null;
+		if (model.getFaceTextures() != null)
+		{
+			uvs = new float[uvBuffer.getBuffer().position() - uvPosition];
+			uvBuffer.getBuffer().duplicate().position(uvPosition).get(uvs);
+		}
+
+		packed = new PackedModel(model.getFaceCount(), model.getVerticesCount(), override(model),
+			model.getVerticesX(), model.getVerticesY(), model.getVerticesZ(), model.getFaceColors1(), model.getFaceTextures(),
+			vertices, uvs);
+		packed.sceneId = sceneUploader.sceneId;
+		cache.put(model, packed);
+		return len;
+	}
+
+	CacheStats stats()
+	{
+		return stats.snapshot();
+	}
+
+	long size()
+	{
+		return cache.size();
+	}
+
+	void clear()
+	{
+		cache.invalidateAll();
+	}
+
+	private static int override(Model model)
+	{
+		return model.getOverrideAmount() & 0xff | (model.getOverrideHue() & 0xff) << 8
+			| (model.getOverrideSaturation() & 0xff) << 16 | (model.getOverrideLuminance() & 0xff) << 24;
+	}
+}
@@ -24,11 +24,25 @@
  */
 package net.runelite.client.plugins.gpu;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheStats;
 import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.Constants;
@@ -56,10 +70,16 @@ class SceneUploader
 
 	private final Regions regions;
 
+	// tile columns in the extended scene, across all planes
+	private static final int SCENE_COLUMNS = Constants.MAX_Z * Constants.EXTENDED_SCENE_SIZE;
+	private static final int CHUNKS_PER_THREAD = 4;
+	private static final long MODEL_CACHE_BYTES = 64L * 1024 * 1024;
+
 	int sceneId = (int) System.nanoTime();
-	private int offset;
-	private int uvoffset;
-	private int uniqueModels;
+	private final ModelCache modelCache = new ModelCache(MODEL_CACHE_BYTES);
+	// to compare against packing every model, see SceneUploaderBenchmark
+	@VisibleForTesting
+	boolean modelCacheEnabled = true;
 
 	@Inject
 	SceneUploader(
@@ -83,9 +103,6 @@ class SceneUploader
 	void upload(Scene scene, GpuIntBuffer vertexBuffer, GpuFloatBuffer uvBuffer)
 	{
 		++sceneId;
-		offset = 0;
-		uvoffset = 0;
-		uniqueModels = 0;
 		vertexBuffer.clear();
 		uvBuffer.clear();
 
@@ -95,40 +112,171 @@ class SceneUploader
 		log.debug("Scene preparation time: {}", stopwatch);
 
 		stopwatch = Stopwatch.createStarted();
-		for (int z = 0; z < Constants.MAX_Z; ++z)
+		CacheStats cacheStats = modelCache.stats();
+		Chunk chunk = new Chunk(0, SCENE_COLUMNS);
+		chunk.vertexBuffer = vertexBuffer;
+		chunk.uvBuffer = uvBuffer;
+		upload(scene, chunk);
+
+		stopwatch.stop();
+		log.debug("Scene upload time: {} unique models: {} length: {}KB", stopwatch, chunk.uniqueModels, (chunk.offset * 16) / 1024);
+		logModelCacheStats(cacheStats);
+	}
+
+	/**
+	 * Upload the scene using multiple threads. The extended scene is split into chunks of tile columns, which
+	 * the workers upload into their own buffers. The chunks are then concatenated in scene order and their
+	 * buffer offsets relocated, so the result is identical to {@link #upload(Scene, GpuIntBuffer, GpuFloatBuffer)}.
+	 */
+	void uploadParallel(Scene scene, GpuIntBuffer vertexBuffer, GpuFloatBuffer uvBuffer, int threads)
+	{
+		++sceneId;
+		vertexBuffer.clear();
+		uvBuffer.clear();
+
+		Stopwatch stopwatch = Stopwatch.createStarted();
+		prepare(scene);
+		stopwatch.stop();
+		log.debug("Scene preparation time: {}", stopwatch);
+
+		stopwatch = Stopwatch.createStarted();
+		CacheStats cacheStats = modelCache.stats();
+		final int numChunks = Math.min(threads * CHUNKS_PER_THREAD, SCENE_COLUMNS);
+		final Chunk[] chunks = new Chunk[numChunks];
+		for (int i = 0; i < numChunks; ++i)
+		{
+			Chunk chunk = new Chunk(SCENE_COLUMNS * i / numChunks, SCENE_COLUMNS * (i + 1) / numChunks);
+			chunk.models = new ArrayList<>();
+			chunk.lastSceneIds = new int[64];
+			chunk.paints = new ArrayList<>();
+			chunk.tileModels = new ArrayList<>();
+			// models are shared between tiles, so each model is claimed by the first chunk which uses it, same as
+			// the serial upload would
+			claimModels(scene, chunk);
+			chunks[i] = chunk;
+		}
+
+		final AtomicInteger nextChunk = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(threads, r -> new Thread(r, "Scene upload"));
+		try
 		{
-			for (int x = 0; x < Constants.EXTENDED_SCENE_SIZE; ++x)
+			List<Future<?>> futures = new ArrayList<>(threads);
+			for (int i = 0; i < threads; ++i)
 			{
-				for (int y = 0; y < Constants.EXTENDED_SCENE_SIZE; ++y)
+				futures.add(executor.submit(() ->
 				{
-					Tile tile = scene.getExtendedTiles()[z][x][y];
-					if (tile != null)
+					GpuIntBuffer workerVertexBuffer = new GpuIntBuffer();
+					GpuFloatBuffer workerUvBuffer = new GpuFloatBuffer();
+					int idx;
+					while ((idx = nextChunk.getAndIncrement()) < numChunks)
 					{
-						upload(scene, tile, vertexBuffer, uvBuffer);
+						Chunk chunk = chunks[idx];
+						chunk.vertexBuffer = workerVertexBuffer;
+						chunk.uvBuffer = workerUvBuffer;
+						chunk.vertexPosition = workerVertexBuffer.getBuffer().position();
+						chunk.uvPosition = workerUvBuffer.getBuffer().position();
+						upload(scene, chunk);
 					}
-				}
+				}));
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
 			}
 		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(ex);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new RuntimeException(ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		int offset = 0;
+		int uvoffset = 0;
+		int uniqueModels = 0;
+		for (Chunk chunk : chunks)
+		{
+			IntBuffer vertices = chunk.vertexBuffer.getBuffer().duplicate();
+			vertices.limit(chunk.vertexPosition + chunk.offset * 4).position(chunk.vertexPosition);
+			vertexBuffer.put(vertices);
+
+			FloatBuffer uvs = chunk.uvBuffer.getBuffer().duplicate();
+			uvs.limit(chunk.uvPosition + chunk.uvoffset * 4).position(chunk.uvPosition);
+			uvBuffer.put(uvs);
+
+			chunk.relocate(offset, uvoffset);
+			offset += chunk.offset;
+			uvoffset += chunk.uvoffset;
+			uniqueModels += chunk.uniqueModels;
+		}
 
 		stopwatch.stop();
-		log.debug("Scene upload time: {} unique models: {} length: {}KB", stopwatch, uniqueModels, (offset * 16) / 1024);
+		log.debug("Scene upload time: {} unique models: {} length: {}KB chunks: {} threads: {}", stopwatch, uniqueModels, (offset * 16) / 1024,
+			numChunks, threads);
+		logModelCacheStats(cacheStats);
+	}
+
+	private void logModelCacheStats(CacheStats before)
+	{
+		CacheStats stats = modelCache.stats().minus(before);
+		log.debug("Model cache hits: {} misses: {} hit rate: {}% evictions: {} entries: {}", stats.hitCount(), stats.missCount(),
+			(int) (stats.hitRate() * 100), stats.evictionCount(), modelCache.size());
 	}
 
-	private void upload(Scene scene, Tile tile, GpuIntBuffer vertexBuffer, GpuFloatBuffer uvBuffer)
+	/**
+	 * Get the cumulative stats of the cache of packed scene models
+	 */
+	CacheStats getModelCacheStats()
+	{
+		return modelCache.stats();
+	}
+
+	void clearModelCache()
+	{
+		modelCache.clear();
+	}
+
+	private void upload(Scene scene, Chunk chunk)
+	{
+		Tile[][][] tiles = scene.getExtendedTiles();
+		for (int column = chunk.start; column < chunk.end; ++column)
+		{
+			Tile[] row = tiles[column / Constants.EXTENDED_SCENE_SIZE][column % Constants.EXTENDED_SCENE_SIZE];
+			for (int y = 0; y < Constants.EXTENDED_SCENE_SIZE; ++y)
+			{
+				Tile tile = row[y];
+				if (tile != null)
+				{
+					upload(scene, tile, chunk);
+				}
+			}
+		}
+	}
+
+	private void upload(Scene scene, Tile tile, Chunk chunk)
 	{
 		Tile bridge = tile.getBridge();
 		if (bridge != null)
 		{
-			upload(scene, bridge, vertexBuffer, uvBuffer);
+			upload(scene, bridge, chunk);
 		}
 
 		SceneTilePaint sceneTilePaint = tile.getSceneTilePaint();
 		if (sceneTilePaint != null)
 		{
-			sceneTilePaint.setBufferOffset(offset);
+			sceneTilePaint.setBufferOffset(chunk.offset);
 			if (sceneTilePaint.getTexture() != -1)
 			{
-				sceneTilePaint.setUvBufferOffset(uvoffset);
+				sceneTilePaint.setUvBufferOffset(chunk.uvoffset);
 			}
 			else
 			{
@@ -137,23 +285,27 @@ class SceneUploader
 			Point tilePoint = tile.getSceneLocation();
 			int len = upload(scene, sceneTilePaint,
 				tile.getRenderLevel(), tilePoint.getX(), tilePoint.getY(),
-				vertexBuffer, uvBuffer,
+				chunk.vertexBuffer, chunk.uvBuffer,
 				0, 0, false);
 			sceneTilePaint.setBufferLen(len);
-			offset += len;
+			chunk.offset += len;
 			if (sceneTilePaint.getTexture() != -1)
 			{
-				uvoffset += len;
+				chunk.uvoffset += len;
+			}
+			if (chunk.paints != null)
+			{
+				chunk.paints.add(sceneTilePaint);
 			}
 		}
 
 		SceneTileModel sceneTileModel = tile.getSceneTileModel();
 		if (sceneTileModel != null)
 		{
-			sceneTileModel.setBufferOffset(offset);
+			sceneTileModel.setBufferOffset(chunk.offset);
 			if (sceneTileModel.getTriangleTextureId() != null)
 			{
-				sceneTileModel.setUvBufferOffset(uvoffset);
+				sceneTileModel.setUvBufferOffset(chunk.uvoffset);
 			}
 			else
 			{
@@ -162,28 +314,84 @@ class SceneUploader
 			Point tilePoint = tile.getSceneLocation();
 			int len = upload(sceneTileModel,
 				tilePoint.getX() << Perspective.LOCAL_COORD_BITS, tilePoint.getY() << Perspective.LOCAL_COORD_BITS,
-				vertexBuffer, uvBuffer, false);
+				chunk.vertexBuffer, chunk.uvBuffer, false);
 			sceneTileModel.setBufferLen(len);
-			offset += len;
+			chunk.offset += len;
 			if (sceneTileModel.getTriangleTextureId() != null)
 			{
-				uvoffset += len;
+				chunk.uvoffset += len;
+			}
+			if (chunk.tileModels != null)
+			{
+				chunk.tileModels.add(sceneTileModel);
+			}
+		}
+
+		forEachModel(tile, model -> uploadSceneModel(model, chunk));
+	}
+
+	private void claimModels(Scene scene, Chunk chunk)
+	{
+		Tile[][][] tiles = scene.getExtendedTiles();
+		for (int column = chunk.start; column < chunk.end; ++column)
+		{
+			Tile[] row = tiles[column / Constants.EXTENDED_SCENE_SIZE][column % Constants.EXTENDED_SCENE_SIZE];
+			for (int y = 0; y < Constants.EXTENDED_SCENE_SIZE; ++y)
+			{
+				Tile tile = row[y];
+				if (tile != null)
+				{
+					claimModels(tile, chunk);
+				}
 			}
 		}
+	}
+
+	private void claimModels(Tile tile, Chunk chunk)
+	{
+		Tile bridge = tile.getBridge();
+		if (bridge != null)
+		{
+			claimModels(bridge, chunk);
+		}
 
+		forEachModel(tile, model ->
+		{
+			if (model.getUnskewedModel() != null)
+			{
+				model = model.getUnskewedModel();
+			}
+
+			final int lastSceneId = model.getSceneId();
+			if (lastSceneId != sceneId)
+			{
+				model.setSceneId(sceneId);
+				if (chunk.models.size() == chunk.lastSceneIds.length)
+				{
+					chunk.lastSceneIds = Arrays.copyOf(chunk.lastSceneIds, chunk.lastSceneIds.length * 2);
+				}
+				chunk.lastSceneIds[chunk.models.size()] = lastSceneId;
+				chunk.models.add(model);
+			}
+		});
+	}
+
+	// the models on a tile, in upload order
+	private static void forEachModel(Tile tile, Consumer<Model> consumer)
+	{
 		WallObject wallObject = tile.getWallObject();
 		if (wallObject != null)
 		{
 			Renderable renderable1 = wallObject.getRenderable1();
 			if (renderable1 instanceof Model)
 			{
-				uploadSceneModel((Model) renderable1, vertexBuffer, uvBuffer);
+				consumer.accept((Model) renderable1);
 			}
 
 			Renderable renderable2 = wallObject.getRenderable2();
 			if (renderable2 instanceof Model)
 			{
-				uploadSceneModel((Model) renderable2, vertexBuffer, uvBuffer);
+				consumer.accept((Model) renderable2);
 			}
 		}
 
@@ -193,7 +401,7 @@ class SceneUploader
 			Renderable renderable = groundObject.getRenderable();
 			if (renderable instanceof Model)
 			{
-				uploadSceneModel((Model) renderable, vertexBuffer, uvBuffer);
+				consumer.accept((Model) renderable);
 			}
 		}
 
@@ -203,13 +411,13 @@ class SceneUploader
 			Renderable renderable = decorativeObject.getRenderable();
 			if (renderable instanceof Model)
 			{
-				uploadSceneModel((Model) renderable, vertexBuffer, uvBuffer);
+				consumer.accept((Model) renderable);
 			}
 
 			Renderable renderable2 = decorativeObject.getRenderable2();
 			if (renderable2 instanceof Model)
 			{
-				uploadSceneModel((Model) renderable2, vertexBuffer, uvBuffer);
+				consumer.accept((Model) renderable2);
 			}
 		}
 
@@ -224,7 +432,7 @@ class SceneUploader
 			Renderable renderable = gameObject.getRenderable();
 			if (renderable instanceof Model)
 			{
-				uploadSceneModel((Model) gameObject.getRenderable(), vertexBuffer, uvBuffer);
+				consumer.accept((Model) renderable);
 			}
 		}
 	}
@@ -397,7 +605,7 @@ class SceneUploader
 		return cnt;
 	}
 
-	private void uploadSceneModel(Model model, GpuIntBuffer vertexBuffer, GpuFloatBuffer uvBuffer)
+	private void uploadSceneModel(Model model, Chunk chunk)
 	{
 		// deduplicate hillskewed models
 		if (model.getUnskewedModel() != null)
@@ -405,29 +613,54 @@ class SceneUploader
 			model = model.getUnskewedModel();
 		}
 
-		if (model.getSceneId() == sceneId)
+		final int lastSceneId;
+		if (chunk.models == null)
 		{
-			return; // model has already been uploaded
+			lastSceneId = model.getSceneId();
+			if (lastSceneId == sceneId)
+			{
+				return; // model has already been uploaded
+			}
+
+			model.setSceneId(sceneId);
+		}
+		else
+		{
+			// claimed models are visited in the same order they were claimed in, anything else
+			// is either a repeat or was claimed by an earlier chunk
+			if (chunk.claimed == chunk.models.size() || chunk.models.get(chunk.claimed) != model)
+			{
+				return;
+			}
+
+			lastSceneId = chunk.lastSceneIds[chunk.claimed++];
 		}
 
-		model.setBufferOffset(offset);
+		model.setBufferOffset(chunk.offset);
 		if (model.getFaceTextures() != null)
 		{
-			model.setUvBufferOffset(uvoffset);
+			model.setUvBufferOffset(chunk.uvoffset);
 		}
 		else
 		{
 			model.setUvBufferOffset(-1);
 		}
-		model.setSceneId(sceneId);
-		++uniqueModels;
+		++chunk.uniqueModels;
 
-		int len = pushModel(model, vertexBuffer, uvBuffer);
+		int len;
+		if (modelCacheEnabled)
+		{
+			len = modelCache.push(this, model, lastSceneId, chunk.vertexBuffer, chunk.uvBuffer);
+		}
+		else
+		{
+			len = pushModel(model, chunk.vertexBuffer, chunk.uvBuffer);
+		}
 
-		offset += len;
+		chunk.offset += len;
 		if (model.getFaceTextures() != null)
 		{
-			uvoffset += len;
+			chunk.uvoffset += len;
 		}
 	}
 
@@ -1095,4 +1328,62 @@ class SceneUploader
 			}
 		}
 	}
+
+	/**
+	 * A range of tile columns of the extended scene, and its upload state
+	 */
+	@RequiredArgsConstructor
+	private static final class Chunk
+	{
+		private final int start;
+		private final int end;
+
+		private GpuIntBuffer vertexBuffer;
+		private GpuFloatBuffer uvBuffer;
+		// start of this chunk within a worker's buffers
+		private int vertexPosition;
+		private int uvPosition;
+
+		private int offset;
+		private int uvoffset;
+		private int uniqueModels;
+
+		// for parallel uploads: the models claimed by this chunk, and the uploaded tiles, so they can be relocated
+		private List<Model> models;
+		// the scene id each claimed model had before it was claimed
+		private int[] lastSceneIds;
+		private int claimed;
+		private List<SceneTilePaint> paints;
+		private List<SceneTileModel> tileModels;
+
+		void relocate(int vertexBase, int uvBase)
+		{
+			for (SceneTilePaint paint : paints)
+			{
+				paint.setBufferOffset(paint.getBufferOffset() + vertexBase);
+				if (paint.getUvBufferOffset() != -1)
+				{
+					paint.setUvBufferOffset(paint.getUvBufferOffset() + uvBase);
+				}
+			}
+
+			for (SceneTileModel tileModel : tileModels)
+			{
+				tileModel.setBufferOffset(tileModel.getBufferOffset() + vertexBase);
+				if (tileModel.getUvBufferOffset() != -1)
+				{
+					tileModel.setUvBufferOffset(tileModel.getUvBufferOffset() + uvBase);
+				}
+			}
+
+			for (Model model : models)
+			{
+				model.setBufferOffset(model.getBufferOffset() + vertexBase);
+				if (model.getUvBufferOffset() != -1)
+				{
+					model.setUvBufferOffset(model.getUvBufferOffset() + uvBase);
+				}
+			}
+		}
+	}
 }
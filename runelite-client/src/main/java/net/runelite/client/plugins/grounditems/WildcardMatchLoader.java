@@ -35,6 +35,7 @@ import net.runelite.client.util.WildcardMatcher;
 class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 {
 	private final List<ItemThreshold> itemThresholds;
+	private final WildcardMatcher nameMatcher;
 
 	WildcardMatchLoader(List<String> configEntries)
 	{
@@ -42,6 +43,9 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 			.map(ItemThreshold::fromConfigEntry)
 			.filter(Objects::nonNull)
 			.collect(Collectors.toList());
+		this.nameMatcher = WildcardMatcher.compile(itemThresholds.stream()
+			.map(ItemThreshold::getItemName)
+			.collect(Collectors.toList()));
 	}
 
 	@Override
@@ -54,6 +58,12 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 
 		final String filteredName = key.getName().trim();
 
+		// most items match no entry, so reject those before checking the entries individually
+		if (!nameMatcher.matchesAny(filteredName))
+		{
+			return false;
+		}
+
 		for (final ItemThreshold entry : itemThresholds)
 		{
 			if (WildcardMatcher.matches(entry.getItemName(), filteredName)
@@ -160,6 +160,11 @@ public class NpcIndicatorsPlugin extends Plugin
 	 */
 	private List<String> highlights = new ArrayList<>();
 
+	/**
+	 * Highlight strings compiled for matching npc names
+	 */
+	private WildcardMatcher highlightMatcher = WildcardMatcher.compile(Collections.emptyList());
+
 	/**
 	 * NPC ids marked with the Tag option
 	 */
@@ -702,6 +707,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	void rebuild()
 	{
 		highlights = getHighlights();
+		highlightMatcher = WildcardMatcher.compile(highlights);
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -746,15 +752,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	private boolean highlightMatchesNPCName(String npcName)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightMatcher.matchesAny(npcName);
 	}
 
 	private void validateSpawnedNpcs()
@@ -140,7 +140,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	private boolean loggingIn;
 	private boolean notifyOnce;
 
-	private List<String> npcNamePatterns;
+	private WildcardMatcher npcNameMatcher;
 
 	@Provides
 	NpcAggroAreaConfig provideConfig(ConfigManager configManager)
@@ -152,7 +152,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	protected void startUp() throws Exception
 	{
 		overlayManager.add(overlay);
-		npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+		npcNameMatcher = WildcardMatcher.compile(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 		infoBoxManager.addInfoBox(new UncalibratedInfobox(itemManager.getImage(ItemID.ARCEUUS_CORPSE_DEMON_INITIAL), this));
 		clientThread.invokeLater(this::scanNpcs);
 	}
@@ -167,7 +167,7 @@ public class NpcAggroAreaPlugin extends Plugin
 		lastPlayerLocation = null;
 		endTime = null;
 		loggingIn = false;
-		npcNamePatterns = null;
+		npcNameMatcher = null;
 		active = false;
 
 		Arrays.fill(linesToDisplay, null);
@@ -288,15 +288,7 @@ public class NpcAggroAreaPlugin extends Plugin
 			}
 		}
 
-		for (String pattern : npcNamePatterns)
-		{
-			if (WildcardMatcher.matches(pattern, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return npcNameMatcher.matchesAny(npcName);
 	}
 
 	private void scanNpcs()
@@ -412,7 +404,7 @@ public class NpcAggroAreaPlugin extends Plugin
 				calculateLinesToDisplay();
 				break;
 			case "npcUnaggroNames":
-				npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+				npcNameMatcher = WildcardMatcher.compile(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 				clientThread.invokeLater(this::scanNpcs);
 				break;
 		}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.stream.JsonWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records timed spans during client startup, and writes them as a Chrome trace, which can be opened
+ * in chrome://tracing, Perfetto, or converted for JDK Mission Control. Spans are recorded per thread, and
+ * spans on the same thread nest by time.
+ * <pre>
+ * try (var span = StartupTracer.span("Load config"))
+ * {
+ *     ...
+ * }
+ * </pre>
+ * Recording stops once startup is finished, after which spans are no-ops.
+ */
+@Slf4j
+public final class StartupTracer
+{
+	private static final String CATEGORY = "startup";
+	private static final Span NOOP = new Span(null, null, 0L);
+
+	private static final Queue<Event> events = new ConcurrentLinkedQueue<>();
+	private static final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+	private static volatile boolean recording = true;
+
+	// trace timestamps are relative to jvm start
+	private static long originNanos = System.nanoTime();
+	private static long originMicros = TimeUnit.MILLISECONDS.toMicros(ManagementFactory.getRuntimeMXBean().getUptime());
+	private static final Thread originThread = Thread.currentThread();
+
+	private StartupTracer()
+	{
+	}
+
+	public static Span span(String name)
+	{
+		return span(name, CATEGORY);
+	}
+
+	/**
+	 * Start a span, which is recorded when it is closed
+	 *
+	 * @param name the span name
+	 * @param category the span category, for filtering in the trace viewer
+	 * @return the span
+	 */
+	public static Span span(String name, String category)
+	{
+		if (!recording)
+		{
+			return NOOP;
+		}
+		return new Span(name, category, System.nanoTime());
+	}
+
+	public static boolean isRecording()
+	{
+		return recording;
+	}
+
+	/**
+	 * Stop recording and write the trace
+	 *
+	 * @param file the trace file
+	 */
+	public static void finish(File file)
+	{
+		recording = false;
+
+		try (JsonWriter out = new JsonWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))
+		{
+			write(out);
+			log.debug("Wrote startup trace with {} spans to {}", events.size(), file);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write startup trace", ex);
+		}
+	}
+
+	@VisibleForTesting
+	static void write(JsonWriter out) throws IOException
+	{
+		out.beginObject();
+		out.name("displayTimeUnit").value("ms");
+		out.name("traceEvents").beginArray();
+
+		// the time from jvm start until tracing started, such as class loading of the launcher and client
+		if (originMicros > 0)
+		{
+			threadNames.putIfAbsent(originThread.getId(), originThread.getName());
+			out.beginObject();
+			out.name("name").value("JVM start");
+			out.name("cat").value(CATEGORY);
+			out.name("ph").value("X");
+			out.name("ts").value(0);
+			out.name("dur").value(originMicros);
+			out.name("pid").value(1);
+			out.name("tid").value(originThread.getId());
+			out.endObject();
+		}
+
+		for (Map.Entry<Long, String> entry : threadNames.entrySet())
+		{
+			out.beginObject();
+			out.name("name").value("thread_name");
+			out.name("ph").value("M");
+			out.name("pid").value(1);
+			out.name("tid").value(entry.getKey());
+			out.name("args").beginObject().name("name").value(entry.getValue()).endObject();
+			out.endObject();
+		}
+
+		for (Event event : events)
+		{
+			out.beginObject();
+			out.name("name").value(event.name);
+			out.name("cat").value(event.category);
+			out.name("ph").value("X");
+			out.name("ts").value(originMicros + TimeUnit.NANOSECONDS.toMicros(event.start - originNanos));
+			out.name("dur").value(TimeUnit.NANOSECONDS.toMicros(event.end - event.start));
+			out.name("pid").value(1);
+			out.name("tid").value(event.thread);
+			out.endObject();
+		}
+
+		out.endArray();
+		out.endObject();
+	}
+
+	@VisibleForTesting
+	static void reset()
+	{
+		events.clear();
+		threadNames.clear();
+		originNanos = System.nanoTime();
+		originMicros = 0;
+		recording = true;
+	}
+
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static final class Span implements AutoCloseable
+	{
+		private final String name;
+		private final String category;
+		private final long start;
+
+		@Override
+		public void close()
+		{
+			if (this == NOOP || !recording)
+			{
+				return;
+			}
+
+			Thread thread = Thread.currentThread();
+			threadNames.putIfAbsent(thread.getId(), thread.getName());
+			events.add(new Event(name, category, thread.getId(), start, System.nanoTime()));
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static final class Event
+	{
+		private final String name;
+		private final String category;
+		private final long thread;
+		private final long start;
+		private final long end;
+	}
+}
@@ -24,12 +24,18 @@
  */
 package net.runelite.client.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class WildcardMatcher
 {
 	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*+)");
+	private static final int BUCKETS = 128;
+	private static final Glob[] NO_GLOBS = new Glob[0];
 
 	public static boolean matches(String pattern, String text)
 	{
@@ -54,4 +60,278 @@ public class WildcardMatcher
 
 		return text.matches(replaced);
 	}
+
+	/**
+	 * Compile a set of wildcard patterns for repeated matching with {@link #matchesAny(String)}.
+	 * Matching is equivalent to {@link #matches(String, String)} against each pattern, but nothing
+	 * is compiled or allocated per call.
+	 *
+	 * @param patterns wildcard patterns, where {@code *} matches any sequence of characters
+	 * @return the compiled matcher
+	 */
+	public static WildcardMatcher compile(Collection<String> patterns)
+	{
+		return new WildcardMatcher(patterns);
+	}
+
+	// patterns without wildcards, in an open addressed table of case folded names
+	private final char[][] exact;
+	// patterns with wildcards, bucketed by the case folded first character they require, then the last
+	// character they require, and otherwise unbucketed
+	private final Glob[][] byFirst = new Glob[BUCKETS][];
+	private final Glob[][] byLast = new Glob[BUCKETS][];
+	private final Glob[] unanchored;
+
+	private WildcardMatcher(Collection<String> patterns)
+	{
+		List<char[]> names = new ArrayList<>();
+		List<List<Glob>> first = new ArrayList<>(BUCKETS);
+		List<List<Glob>> last = new ArrayList<>(BUCKETS);
+		List<Glob> other = new ArrayList<>();
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			first.add(new ArrayList<>());
+			last.add(new ArrayList<>());
+		}
+
+		for (String pattern : patterns)
+		{
+			if (pattern.indexOf('*') == -1)
+			{
+				names.add(fold(pattern));
+				continue;
+			}
+
+			Glob glob = new Glob(pattern);
+			char c;
+			if (glob.anchoredStart && (c = glob.segments[0][0]) < BUCKETS)
+			{
+				first.get(c).add(glob);
+			}
+			else if (glob.anchoredEnd && (c = glob.lastSegment()[glob.lastSegment().length - 1]) < BUCKETS)
+			{
+				last.get(c).add(glob);
+			}
+			else
+			{
+				other.add(glob);
+			}
+		}
+
+		exact = new char[Integer.highestOneBit(Math.max(names.size(), 1) * 4)][];
+		for (char[] name : names)
+		{
+			int mask = exact.length - 1;
+			int i = hash(name) & mask;
+			while (exact[i] != null && !Arrays.equals(exact[i], name))
+			{
+				i = (i + 1) & mask;
+			}
+			exact[i] = name;
+		}
+
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			byFirst[i] = first.get(i).isEmpty() ? NO_GLOBS : first.get(i).toArray(NO_GLOBS);
+			byLast[i] = last.get(i).isEmpty() ? NO_GLOBS : last.get(i).toArray(NO_GLOBS);
+		}
+		unanchored = other.toArray(NO_GLOBS);
+	}
+
+	/**
+	 * Test if the text matches any of the compiled patterns
+	 *
+	 * @param text the text to match
+	 * @return true if any pattern matches
+	 */
+	public boolean matchesAny(String text)
+	{
+		final int length = text.length();
+
+		int mask = exact.length - 1;
+		for (int i = hash(text) & mask; exact[i] != null; i = (i + 1) & mask)
+		{
+			if (equals(exact[i], text))
+			{
+				return true;
+			}
+		}
+
+		if (length > 0)
+		{
+			char c = fold(text.charAt(0));
+			if (c < BUCKETS && anyMatch(byFirst[c], text))
+			{
+				return true;
+			}
+
+			c = fold(text.charAt(length - 1));
+			if (c < BUCKETS && anyMatch(byLast[c], text))
+			{
+				return true;
+			}
+		}
+
+		return anyMatch(unanchored, text);
+	}
+
+	private static boolean anyMatch(Glob[] globs, String text)
+	{
+		for (Glob glob : globs)
+		{
+			if (glob.matches(text))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A wildcard pattern split into the literal segments between its wildcards
+	 */
+	private static final class Glob
+	{
+		private final char[][] segments;
+		private final boolean anchoredStart;
+		private final boolean anchoredEnd;
+		private final int minLength;
+
+		Glob(String pattern)
+		{
+			List<char[]> segments = new ArrayList<>();
+			int length = 0;
+			for (String segment : pattern.split("\\*"))
+			{
+				if (!segment.isEmpty())
+				{
+					segments.add(fold(segment));
+					length += segment.length();
+				}
+			}
+
+			this.segments = segments.toArray(new char[0][]);
+			this.anchoredStart = !pattern.startsWith("*");
+			this.anchoredEnd = !pattern.endsWith("*");
+			this.minLength = length;
+		}
+
+		char[] lastSegment()
+		{
+			return segments[segments.length - 1];
+		}
+
+		boolean matches(String text)
+		{
+			final int length = text.length();
+			if (length < minLength)
+			{
+				return false;
+			}
+
+			int from = 0;
+			int to = length;
+			int first = 0;
+			int last = segments.length;
+
+			if (anchoredStart)
+			{
+				if (!regionMatches(text, 0, segments[0]))
+				{
+					return false;
+				}
+				from = segments[0].length;
+				++first;
+			}
+
+			if (anchoredEnd)
+			{
+				char[] segment = segments[--last];
+				to = length - segment.length;
+				if (to < from || !regionMatches(text, to, segment))
+				{
+					return false;
+				}
+			}
+
+			// the remaining segments can match anywhere in order, so take the earliest match of each
+			for (int i = first; i < last; ++i)
+			{
+				char[] segment = segments[i];
+				int idx = indexOf(text, segment, from, to);
+				if (idx == -1)
+				{
+					return false;
+				}
+				from = idx + segment.length;
+			}
+
+			return true;
+		}
+	}
+
+	private static int indexOf(String text, char[] segment, int from, int to)
+	{
+		for (int i = from, end = to - segment.length; i <= end; ++i)
+		{
+			if (regionMatches(text, i, segment))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean regionMatches(String text, int offset, char[] segment)
+	{
+		for (int i = 0; i < segment.length; ++i)
+		{
+			if (fold(text.charAt(offset + i)) != segment[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean equals(char[] name, String text)
+	{
+		return name.length == text.length() && regionMatches(text, 0, name);
+	}
+
+	private static int hash(char[] name)
+	{
+		int h = 0;
+		for (char c : name)
+		{
+			h = 31 * h + c;
+		}
+		return h ^ (h >>> 16);
+	}
+
+	private static int hash(String text)
+	{
+		int h = 0;
+		for (int i = 0; i < text.length(); ++i)
+		{
+			h = 31 * h + fold(text.charAt(i));
+		}
+		return h ^ (h >>> 16);
+	}
+
+	private static char[] fold(String s)
+	{
+		char[] chars = new char[s.length()];
+		for (int i = 0; i < chars.length; ++i)
+		{
+			chars[i] = fold(s.charAt(i));
+		}
+		return chars;
+	}
+
+	// case folding matching the US-ASCII only case insensitivity of the (?i) regex flag
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientThreadTest
+{
+	@Inject
+	private ClientThread clientThread;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		lenient().when(client.isClientThread()).thenReturn(true);
+	}
+
+	@Test
+	public void testInvokeAll()
+	{
+		List<String> ran = new ArrayList<>();
+		clientThread.invokeLater(() -> ran.add("normal"));
+		clientThread.invokeLater(() -> ran.add("low"), ClientThread.Priority.LOW);
+		clientThread.invokeLater(() -> ran.add("high"), ClientThread.Priority.HIGH);
+
+		clientThread.invoke();
+		assertEquals(Arrays.asList("high", "normal", "low"), ran);
+		assertEquals(3, clientThread.getMetrics().getTasksRun());
+		assertEquals(0, clientThread.getMetrics().getNormalQueued());
+	}
+
+	@Test
+	public void testFrameBudget()
+	{
+		List<String> ran = new ArrayList<>();
+		clientThread.setFrameBudget(1, TimeUnit.NANOSECONDS);
+		clientThread.invokeLater(() -> ran.add("normal1"));
+		clientThread.invokeLater(() -> ran.add("normal2"));
+		clientThread.invokeLater(() -> ran.add("low"), ClientThread.Priority.LOW);
+
+		clientThread.invokeLater(() -> ran.add("low2"), ClientThread.Priority.LOW);
+
+		// one task of each budgeted queue runs each cycle
+		clientThread.invoke();
+		assertEquals(Arrays.asList("normal1", "low"), ran);
+		assertEquals(1, clientThread.getMetrics().getNormalQueued());
+		assertEquals(1, clientThread.getMetrics().getLowQueued());
+		assertTrue(clientThread.getMetrics().getBudgetOverruns() > 0);
+
+		clientThread.invoke();
+		assertEquals(Arrays.asList("normal1", "low", "normal2", "low2"), ran);
+	}
+
+	@Test
+	public void testFrameBudgetSlowHighPriority()
+	{
+		List<String> ran = new ArrayList<>();
+		clientThread.setFrameBudget(1, TimeUnit.MILLISECONDS);
+		// a slow high priority task which runs every cycle
+		clientThread.invokeLater(() ->
+		{
+			try
+			{
+				Thread.sleep(5);
+			}
+			catch (InterruptedException ex)
+			{
+				throw new RuntimeException(ex);
+			}
+			return false;
+		}, ClientThread.Priority.HIGH);
+		clientThread.invokeLater(() -> ran.add("normal"));
+		clientThread.invokeLater(() -> ran.add("low"), ClientThread.Priority.LOW);
+
+		clientThread.invoke();
+		assertEquals(Arrays.asList("normal", "low"), ran);
+		assertEquals(1, clientThread.getMetrics().getHighQueued());
+	}
+
+	@Test
+	public void testInvokeAfter()
+	{
+		int[] runs = new int[1];
+		clientThread.invokeAfter(() ->
+		{
+			++runs[0];
+			return false;
+		}, 1, TimeUnit.HOURS);
+
+		clientThread.invoke();
+		clientThread.invoke();
+		assertEquals(0, runs[0]);
+		assertEquals(1, clientThread.getMetrics().getScheduled());
+	}
+
+	@Test
+	public void testInvokeNextTick()
+	{
+		when(client.getTickCount()).thenReturn(10);
+
+		int[] runs = new int[1];
+		clientThread.invokeNextTick(() -> ++runs[0] == 2);
+
+		clientThread.invoke();
+		clientThread.invoke();
+		assertEquals(0, runs[0]);
+
+		when(client.getTickCount()).thenReturn(11);
+		clientThread.invoke();
+		clientThread.invoke();
+		// deferred until the next tick instead of being run again every cycle
+		assertEquals(1, runs[0]);
+		assertEquals(1, clientThread.getMetrics().getTasksDeferred());
+
+		when(client.getTickCount()).thenReturn(12);
+		clientThread.invoke();
+		assertEquals(2, runs[0]);
+		assertEquals(0, clientThread.getMetrics().getScheduled());
+	}
+}
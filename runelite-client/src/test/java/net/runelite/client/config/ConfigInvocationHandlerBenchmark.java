@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.awt.Color;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures config proxy reads while another group, such as the loot tracker's, is being written to.
+ * Each operation reads every item of several config proxies and then performs one write, which
+ * invalidates either the whole cache as before, or only the written key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigInvocationHandlerBenchmark
+{
+	public enum Style
+	{
+		FIRST,
+		SECOND,
+	}
+
+	@ConfigGroup("benchmarkA")
+	public interface ConfigA extends Config
+	{
+		@ConfigItem(keyName = "number", name = "", description = "")
+		default int number()
+		{
+			return 1;
+		}
+
+		@ConfigItem(keyName = "enabled", name = "", description = "")
+		default boolean enabled()
+		{
+			return false;
+		}
+
+		@ConfigItem(keyName = "color", name = "", description = "")
+		default Color color()
+		{
+			return Color.RED;
+		}
+
+		@ConfigItem(keyName = "style", name = "", description = "")
+		default Style style()
+		{
+			return Style.FIRST;
+		}
+	}
+
+	@ConfigGroup("benchmarkB")
+	public interface ConfigB extends Config
+	{
+		@ConfigItem(keyName = "text", name = "", description = "")
+		default String text()
+		{
+			return "";
+		}
+
+		@ConfigItem(keyName = "delay", name = "", description = "")
+		default int delay()
+		{
+			return 0;
+		}
+
+		@ConfigItem(keyName = "highlight", name = "", description = "")
+		default Color highlight()
+		{
+			return Color.GREEN;
+		}
+	}
+
+	/**
+	 * Reads of every item of both configs per write
+	 */
+	@Param({"1", "10", "100"})
+	private int readsPerWrite;
+
+	private ConfigInvocationHandler handler;
+	private ConfigA configA;
+	private ConfigB configB;
+	private int writes;
+
+	@Setup
+	public void setup()
+	{
+		Map<String, String> values = new HashMap<>();
+		values.put("benchmarkA.number", "42");
+		values.put("benchmarkA.enabled", "true");
+		values.put("benchmarkA.color", "#ff00ff00");
+		values.put("benchmarkA.style", "SECOND");
+		values.put("benchmarkB.text", "some text");
+		values.put("benchmarkB.highlight", "#80ffffff");
+
+		// stub only, so that invocations are not recorded for the length of the benchmark
+		ConfigManager manager = mock(ConfigManager.class, withSettings().stubOnly());
+		when(manager.getConfiguration(anyString(), anyString()))
+			.thenAnswer(a -> values.get(a.getArgument(0) + "." + a.getArgument(1)));
+		when(manager.stringToObject(anyString(), any())).thenCallRealMethod();
+
+		handler = new ConfigInvocationHandler(manager);
+		configA = (ConfigA) Proxy.newProxyInstance(ConfigA.class.getClassLoader(), new Class<?>[]{ConfigA.class}, handler);
+		configB = (ConfigB) Proxy.newProxyInstance(ConfigB.class.getClassLoader(), new Class<?>[]{ConfigB.class}, handler);
+	}
+
+	@Benchmark
+	public int invalidateAll()
+	{
+		int result = read();
+		handler.invalidate();
+		return result;
+	}
+
+	@Benchmark
+	public int invalidateKey()
+	{
+		int result = read();
+		handler.invalidate("loottracker", "drop" + (writes++ & 63));
+		return result;
+	}
+
+	private int read()
+	{
+		int result = 0;
+		for (int i = 0; i < readsPerWrite; ++i)
+		{
+			result += configA.number();
+			result += configA.enabled() ? 1 : 0;
+			result += configA.color().getRGB();
+			result += configA.style().ordinal();
+			result += configB.text().length();
+			result += configB.delay();
+			result += configB.highlight().getRGB();
+		}
+		return result;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ConfigInvocationHandlerBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -24,11 +24,14 @@
  */
 package net.runelite.client.config;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -165,6 +168,35 @@ public class ConfigManagerTest
 		Assert.assertNull(conf.nullDefaultKey());
 	}
 
+	@Test
+	public void testGetConfigurationKeys()
+	{
+		manager.setConfiguration("test", "item_2", "b");
+		manager.setConfiguration("test", "item_1", "a");
+		manager.setConfiguration("test", "icon_1", "c");
+		manager.setConfiguration("test2", "item_3", "d");
+
+		Assert.assertEquals(Arrays.asList("test.item_1", "test.item_2"), manager.getConfigurationKeys("test.item_"));
+
+		manager.unsetConfiguration("test", "item_1");
+		Assert.assertEquals(Collections.singletonList("test.item_2"), manager.getConfigurationKeys("test.item_"));
+	}
+
+	@Test
+	public void testGetConfigurations()
+	{
+		String rsProfile = "rsprofile.abc";
+		manager.setConfiguration("test", rsProfile, "drops_1", "a");
+		manager.setConfiguration("test", rsProfile, "drops_2", "b");
+		manager.setConfiguration("test", rsProfile, "other", "c");
+		manager.setConfiguration("test", "rsprofile.def", "drops_3", "d");
+		manager.setConfiguration("test", "drops_4", "e");
+
+		Assert.assertEquals(ImmutableMap.of("drops_1", "a", "drops_2", "b"), manager.getConfigurations("test", rsProfile, "drops_"));
+		Assert.assertEquals(Arrays.asList("drops_1", "drops_2"), manager.getRSProfileConfigurationKeys("test", rsProfile, "drops_"));
+		Assert.assertEquals(ImmutableMap.of("drops_4", "e"), manager.getConfigurations("test", null, "drops_"));
+	}
+
 	@Test
 	public void testKeySplitter()
 	{
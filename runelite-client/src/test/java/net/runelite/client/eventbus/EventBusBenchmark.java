@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.ScriptCallbackEvent;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.events.ConfigChanged;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link EventBus} with the previous multimap based dispatch, using a subscriber set modeled
+ * on 150 enabled plugins. The events posted are weighted towards the per frame events, which dominate
+ * in game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark
+{
+	private static final int PLUGINS = 150;
+
+	// event classes, and the chance of a plugin subscribing to each
+	private static final Class<?>[] EVENTS = {
+		ConfigChanged.class, GameStateChanged.class, GameTick.class, ClientTick.class, BeforeRender.class,
+		VarbitChanged.class, ChatMessage.class, MenuEntryAdded.class, ItemContainerChanged.class,
+		NpcSpawned.class, NpcDespawned.class, AnimationChanged.class, StatChanged.class, ScriptCallbackEvent.class,
+	};
+	private static final double[] SUBSCRIBE_CHANCE = {
+		0.8, 0.5, 0.45, 0.12, 0.05,
+		0.3, 0.25, 0.15, 0.2,
+		0.15, 0.15, 0.1, 0.1, 0.1,
+	};
+
+	private static final Object[] POSTED = {
+		new ClientTick(), new BeforeRender(), new ClientTick(), new BeforeRender(),
+		new ClientTick(), new BeforeRender(), new GameTick(), new VarbitChanged(),
+		new MenuEntryAdded(null), new ClientTick(), new BeforeRender(), new ChatMessage(),
+	};
+
+	/**
+	 * EventBus registration and dispatch as they were before per event class dispatch arrays
+	 */
+	static class MultimapEventBus
+	{
+		private ImmutableMultimap<Class<?>, EventBus.Subscriber> subscribers = ImmutableMultimap.of();
+
+		synchronized <T> EventBus.Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
+		{
+			final ImmutableMultimap.Builder<Class<?>, EventBus.Subscriber> builder = ImmutableMultimap.builder();
+			builder.putAll(subscribers);
+			builder.orderValuesBy(Comparator.comparingDouble(EventBus.Subscriber::getPriority).reversed()
+				.thenComparing(s -> s.getObject().getClass().getName()));
+
+			EventBus.Subscriber sub = new EventBus.Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
+			builder.put(clazz, sub);
+
+			subscribers = builder.build();
+
+			return sub;
+		}
+
+		synchronized void unregister(EventBus.Subscriber sub)
+		{
+			subscribers = ImmutableMultimap.copyOf(Iterables.filter(
+				subscribers.entries(),
+				e -> sub != e.getValue()
+			));
+		}
+
+		void post(Object event)
+		{
+			for (final EventBus.Subscriber subscriber : subscribers.get(event.getClass()))
+			{
+				try
+				{
+					subscriber.invoke(event);
+				}
+				catch (Exception e)
+				{
+					throw new RuntimeException(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The event classes, priorities and handlers of one plugin
+	 */
+	private static class Plugin
+	{
+		final List<Class<Object>> events = new ArrayList<>();
+		final List<Float> priorities = new ArrayList<>();
+		final List<Consumer<Object>> handlers = new ArrayList<>();
+		List<EventBus.Subscriber> subscribers = new ArrayList<>();
+	}
+
+	private EventBus eventBus;
+	private MultimapEventBus multimapEventBus;
+	private Plugin[] plugins;
+	private Plugin[] multimapPlugins;
+	private int next;
+	private int received;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup()
+	{
+		eventBus = new EventBus();
+		multimapEventBus = new MultimapEventBus();
+		plugins = new Plugin[PLUGINS];
+		multimapPlugins = new Plugin[PLUGINS];
+
+		Random random = new Random(42);
+		for (int i = 0; i < PLUGINS; ++i)
+		{
+			Plugin plugin = new Plugin();
+			Plugin multimapPlugin = new Plugin();
+			for (int j = 0; j < EVENTS.length; ++j)
+			{
+				if (random.nextDouble() >= SUBSCRIBE_CHANCE[j])
+				{
+					continue;
+				}
+
+				float priority = random.nextInt(10) == 0 ? random.nextInt(5) - 2 : 0;
+				for (Plugin p : new Plugin[]{plugin, multimapPlugin})
+				{
+					p.events.add((Class<Object>) EVENTS[j]);
+					p.priorities.add(priority);
+					p.handlers.add(e -> ++received);
+				}
+			}
+
+			plugins[i] = plugin;
+			multimapPlugins[i] = multimapPlugin;
+			register(plugin);
+			registerMultimap(multimapPlugin);
+		}
+	}
+
+	@Benchmark
+	public int post()
+	{
+		eventBus.post(POSTED[next++ % POSTED.length]);
+		return received;
+	}
+
+	@Benchmark
+	public int postMultimap()
+	{
+		multimapEventBus.post(POSTED[next++ % POSTED.length]);
+		return received;
+	}
+
+	@Benchmark
+	public void togglePlugin()
+	{
+		Plugin plugin = plugins[next++ % PLUGINS];
+		for (EventBus.Subscriber sub : plugin.subscribers)
+		{
+			eventBus.unregister(sub);
+		}
+		register(plugin);
+	}
+
+	@Benchmark
+	public void togglePluginMultimap()
+	{
+		Plugin plugin = multimapPlugins[next++ % PLUGINS];
+		for (EventBus.Subscriber sub : plugin.subscribers)
+		{
+			multimapEventBus.unregister(sub);
+		}
+		registerMultimap(plugin);
+	}
+
+	private void register(Plugin plugin)
+	{
+		plugin.subscribers = new ArrayList<>();
+		for (int i = 0; i < plugin.events.size(); ++i)
+		{
+			plugin.subscribers.add(eventBus.register(plugin.events.get(i), plugin.handlers.get(i), plugin.priorities.get(i)));
+		}
+	}
+
+	private void registerMultimap(Plugin plugin)
+	{
+		plugin.subscribers = new ArrayList<>();
+		for (int i = 0; i < plugin.events.size(); ++i)
+		{
+			plugin.subscribers.add(multimapEventBus.register(plugin.events.get(i), plugin.handlers.get(i), plugin.priorities.get(i)));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(EventBusBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	public static class TestEvent
+	{
+	}
+
+	public static class OtherEvent
+	{
+	}
+
+	public static class TestSubscriber
+	{
+		private final List<String> calls;
+		private final String name;
+
+		TestSubscriber(List<String> calls, String name)
+		{
+			this.calls = calls;
+			this.name = name;
+		}
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add(name);
+		}
+
+		@Subscribe(priority = 1)
+		public void onOtherEvent(OtherEvent event)
+		{
+			calls.add(name + "-other");
+		}
+	}
+
+	@Test
+	public void testPostOrder()
+	{
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		eventBus.register(new TestSubscriber(calls, "a"));
+		eventBus.register(TestEvent.class, e -> calls.add("high"), 5);
+		eventBus.register(TestEvent.class, e -> calls.add("low"), -5);
+		eventBus.register(new TestSubscriber(calls, "b"));
+
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("high", "a", "b", "low"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		TestSubscriber a = new TestSubscriber(calls, "a");
+		TestSubscriber b = new TestSubscriber(calls, "b");
+		eventBus.register(a);
+		eventBus.register(b);
+		EventBus.Subscriber sub = eventBus.register(OtherEvent.class, e -> calls.add("lambda"), 0);
+
+		eventBus.unregister(a);
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(Arrays.asList("b", "b-other", "lambda"), calls);
+
+		calls.clear();
+		eventBus.unregister(sub);
+		eventBus.unregister(a);
+		eventBus.post(new OtherEvent());
+		assertEquals(Collections.singletonList("b-other"), calls);
+
+		calls.clear();
+		eventBus.unregister(b);
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertTrue(calls.isEmpty());
+
+		eventBus.register(a);
+		eventBus.post(new TestEvent());
+		assertEquals(Collections.singletonList("a"), calls);
+	}
+
+	@Test
+	public void testExceptionHandler()
+	{
+		List<Throwable> exceptions = new ArrayList<>();
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		eventBus.register(TestEvent.class, e ->
+		{
+			throw new IllegalStateException();
+		}, 1);
+		eventBus.register(TestEvent.class, e -> calls.add("after"), 0);
+
+		eventBus.post(new TestEvent());
+		assertEquals(1, exceptions.size());
+		assertEquals(Collections.singletonList("after"), calls);
+	}
+
+	@Test
+	public void testInstrumentation()
+	{
+		List<String> calls = new ArrayList<>();
+		EventBus eventBus = new EventBus();
+		eventBus.register(new TestSubscriber(calls, "a"));
+
+		eventBus.post(new TestEvent());
+		assertFalse(eventBus.isInstrumentationEnabled());
+		assertEquals(0, getSnapshot(eventBus, TestEvent.class).getInvocations());
+
+		eventBus.enableInstrumentation(false);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		eventBus.disableInstrumentation();
+		eventBus.post(new TestEvent());
+
+		SubscriberSnapshot snapshot = getSnapshot(eventBus, TestEvent.class);
+		assertEquals(TestSubscriber.class.getName(), snapshot.getSubscriber());
+		assertEquals("onTestEvent", snapshot.getMethod());
+		assertEquals(2, snapshot.getInvocations());
+		assertTrue(snapshot.getMaxNanos() <= snapshot.getTotalNanos());
+		assertEquals(-1, snapshot.getAllocatedBytes());
+		assertEquals(1, getSnapshot(eventBus, OtherEvent.class).getInvocations());
+
+		eventBus.resetInstrumentation();
+		assertEquals(0, getSnapshot(eventBus, TestEvent.class).getInvocations());
+	}
+
+	private static SubscriberSnapshot getSnapshot(EventBus eventBus, Class<?> eventType)
+	{
+		return eventBus.getSubscriberSnapshots().stream()
+			.filter(s -> s.getEventType() == eventType)
+			.findFirst()
+			.orElseThrow();
+	}
+}
@@ -40,10 +40,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
@@ -54,8 +57,10 @@ import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import okhttp3.OkHttpClient;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -155,6 +160,59 @@ public class PluginManagerTest
 		assertEquals(expected, plugins.size());
 	}
 
+	@Test
+	public void testLoadPluginsParallel() throws Exception
+	{
+		var pluginManager = new PluginManager(false, false, null, null, null, null);
+		pluginManager.setParallelStartup(true);
+		pluginManager.loadCorePlugins();
+		List<Plugin> plugins = new ArrayList<>(pluginManager.getPlugins());
+
+		var expected = pluginClasses.stream()
+			.map(cl -> cl.getAnnotation(PluginDescriptor.class))
+			.filter(Objects::nonNull)
+			.filter(pd -> !pd.developerPlugin())
+			.count();
+		assertEquals(expected, plugins.size());
+		assertEquals(plugins.size(), pluginManager.getStartupTimings().size());
+
+		// dependencies must be instantiated before the plugins depending on them
+		List<Class<?>> order = plugins.stream().map(Object::getClass).collect(Collectors.toList());
+		for (int i = 0; i < order.size(); ++i)
+		{
+			for (PluginDependency dependency : order.get(i).getAnnotationsByType(PluginDependency.class))
+			{
+				int idx = order.indexOf(dependency.value());
+				assertTrue(idx != -1 && idx < i);
+			}
+		}
+	}
+
+	@Test
+	public void testPluginIndex() throws Exception
+	{
+		// the index is only generated by the maven build
+		List<PluginIndexEntry> index = PluginManager.loadPluginIndex();
+		assumeNotNull(index);
+
+		assertEquals(pluginClasses.stream().map(Class::getName).collect(Collectors.toSet()),
+			index.stream().map(PluginIndexEntry::getClassName).collect(Collectors.toSet()));
+
+		for (PluginIndexEntry entry : index)
+		{
+			Class<?> clazz = Class.forName(entry.getClassName());
+			PluginDescriptor descriptor = clazz.getAnnotation(PluginDescriptor.class);
+			assertEquals(descriptor.name(), entry.getName());
+			assertEquals(descriptor.configName(), entry.getConfigName());
+			assertArrayEquals(descriptor.tags(), entry.getTags());
+			assertEquals(descriptor.developerPlugin(), entry.isDeveloperPlugin());
+			assertEquals(descriptor.loadInSafeMode(), entry.isLoadInSafeMode());
+			assertArrayEquals(Arrays.stream(clazz.getAnnotationsByType(PluginDependency.class))
+				.map(d -> d.value().getName())
+				.toArray(), entry.getDependencies());
+		}
+	}
+
 	@Test
 	public void dumpGraph() throws Exception
 	{
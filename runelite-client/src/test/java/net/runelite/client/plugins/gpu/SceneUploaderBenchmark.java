@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import com.google.common.base.Defaults;
+import com.google.common.collect.ImmutableMap;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameObject;
+import net.runelite.api.Model;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures scene uploads with and without the {@link ModelCache}. Each operation uploads the next of two
+ * scenes which share two thirds of their models, as when loading a scene and then crossing a region
+ * boundary. The models and tiles are proxies rather than mocks, since the per call overhead of mocks
+ * would hide the cost of packing the models.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SceneUploaderBenchmark
+{
+	private static final int MODELS = 3000;
+	// models which are only in one of the two scenes
+	private static final int SWAPPED = 1000;
+
+	@Param({"false", "true"})
+	private boolean modelCache;
+
+	@Param({"1", "4"})
+	private int threads;
+
+	private SceneUploader sceneUploader;
+	private Scene[] scenes;
+	private GpuIntBuffer vertexBuffer;
+	private GpuFloatBuffer uvBuffer;
+	private int next;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42);
+		List<Model> models = new ArrayList<>();
+		for (int i = 0; i < MODELS + SWAPPED; ++i)
+		{
+			models.add(model(random));
+		}
+
+		scenes = new Scene[]{
+			scene(models.subList(0, MODELS)),
+			scene(models.subList(SWAPPED, MODELS + SWAPPED)),
+		};
+
+		sceneUploader = new SceneUploader(fake(Client.class), fake(GpuPluginConfig.class));
+		sceneUploader.modelCacheEnabled = modelCache;
+		vertexBuffer = new GpuIntBuffer();
+		uvBuffer = new GpuFloatBuffer();
+	}
+
+	@Benchmark
+	public int loadSwap()
+	{
+		Scene scene = scenes[next++ & 1];
+		if (threads > 1)
+		{
+			sceneUploader.uploadParallel(scene, vertexBuffer, uvBuffer, threads);
+		}
+		else
+		{
+			sceneUploader.upload(scene, vertexBuffer, uvBuffer);
+		}
+		return vertexBuffer.getBuffer().position();
+	}
+
+	private static Scene scene(List<Model> models)
+	{
+		Tile[][][] tiles = new Tile[Constants.MAX_Z][Constants.EXTENDED_SCENE_SIZE][Constants.EXTENDED_SCENE_SIZE];
+		for (int i = 0; i < models.size(); ++i)
+		{
+			GameObject gameObject = fake(GameObject.class, ImmutableMap.of("getRenderable", models.get(i)));
+			tiles[0][i / Constants.EXTENDED_SCENE_SIZE][i % Constants.EXTENDED_SCENE_SIZE] = fake(Tile.class,
+				ImmutableMap.of("getGameObjects", new GameObject[]{gameObject}));
+		}
+		return fake(Scene.class, ImmutableMap.of("getExtendedTiles", tiles));
+	}
+
+	private static Model model(Random random)
+	{
+		int faceCount = 20 + random.nextInt(200);
+		int vertexCount = faceCount / 2 + 3;
+
+		float[] verticesX = new float[vertexCount];
+		float[] verticesY = new float[vertexCount];
+		float[] verticesZ = new float[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			verticesX[i] = random.nextInt(256) - 128;
+			verticesY[i] = -random.nextInt(256);
+			verticesZ[i] = random.nextInt(256) - 128;
+		}
+
+		int[] indices1 = new int[faceCount];
+		int[] indices2 = new int[faceCount];
+		int[] indices3 = new int[faceCount];
+		int[] colors1 = new int[faceCount];
+		int[] colors2 = new int[faceCount];
+		int[] colors3 = new int[faceCount];
+		short[] faceTextures = random.nextInt(4) == 0 ? new short[faceCount] : null;
+		for (int i = 0; i < faceCount; ++i)
+		{
+			indices1[i] = random.nextInt(vertexCount);
+			indices2[i] = random.nextInt(vertexCount);
+			indices3[i] = random.nextInt(vertexCount);
+			colors1[i] = random.nextInt(65536);
+			colors2[i] = random.nextInt(65536);
+			colors3[i] = random.nextInt(65536);
+			if (faceTextures != null)
+			{
+				faceTextures[i] = (short) (random.nextBoolean() ? -1 : random.nextInt(100));
+			}
+		}
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("getFaceCount", faceCount);
+		values.put("getVerticesCount", vertexCount);
+		values.put("getVerticesX", verticesX);
+		values.put("getVerticesY", verticesY);
+		values.put("getVerticesZ", verticesZ);
+		values.put("getFaceIndices1", indices1);
+		values.put("getFaceIndices2", indices2);
+		values.put("getFaceIndices3", indices3);
+		values.put("getFaceColors1", colors1);
+		values.put("getFaceColors2", colors2);
+		values.put("getFaceColors3", colors3);
+		if (faceTextures != null)
+		{
+			values.put("getFaceTextures", faceTextures);
+		}
+		return fake(Model.class, values);
+	}
+
+	private static <T> T fake(Class<T> type)
+	{
+		return fake(type, Collections.emptyMap());
+	}
+
+	/**
+	 * Create a proxy which returns the given values by method name, or the default value of the return type.
+	 * Setters update the value returned by the matching getter.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T fake(Class<T> type, Map<String, Object> values)
+	{
+		Map<String, Object> state = new ConcurrentHashMap<>(values);
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+		{
+			String name = method.getName();
+			if (name.startsWith("set") && args != null && args.length == 1)
+			{
+				state.put("get" + name.substring(3), args[0]);
+				return null;
+			}
+
+			Object value = state.get(name);
+			return value != null ? value : Defaults.defaultValue(method.getReturnType());
+		});
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(SceneUploaderBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import com.google.common.cache.CacheStats;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameObject;
+import net.runelite.api.Model;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.SceneTileModel;
+import net.runelite.api.SceneTilePaint;
+import net.runelite.api.Tile;
+import net.runelite.api.WallObject;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SceneUploaderTest
+{
+	private SceneUploader sceneUploader;
+	private Random random;
+	private List<Model> models;
+	// buffer offset, uv buffer offset, and buffer length of each uploaded paint, tile model, and model
+	private List<int[]> offsets;
+
+	@Before
+	public void before()
+	{
+		sceneUploader = new SceneUploader(mock(Client.class), mock(GpuPluginConfig.class));
+		random = new Random(42);
+		models = new ArrayList<>();
+		offsets = new ArrayList<>();
+	}
+
+	@Test
+	public void testUploadParallel()
+	{
+		Scene scene = scene();
+
+		GpuIntBuffer vertexBuffer = new GpuIntBuffer();
+		GpuFloatBuffer uvBuffer = new GpuFloatBuffer();
+		sceneUploader.upload(scene, vertexBuffer, uvBuffer);
+		int[] vertices = ints(vertexBuffer);
+		float[] uvs = floats(uvBuffer);
+		List<int[]> expectedOffsets = copyOffsets();
+
+		for (int threads : new int[]{2, 3, 8})
+		{
+			offsets.forEach(o -> o[0] = o[1] = o[2] = -2);
+
+			vertexBuffer = new GpuIntBuffer();
+			uvBuffer = new GpuFloatBuffer();
+			sceneUploader.uploadParallel(scene, vertexBuffer, uvBuffer, threads);
+
+			assertArrayEquals(vertices, ints(vertexBuffer));
+			assertArrayEquals(uvs, floats(uvBuffer), 0f);
+			for (int i = 0; i < offsets.size(); ++i)
+			{
+				assertArrayEquals(expectedOffsets.get(i), offsets.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void testModelCache()
+	{
+		Scene scene = scene();
+
+		GpuIntBuffer vertexBuffer = new GpuIntBuffer();
+		GpuFloatBuffer uvBuffer = new GpuFloatBuffer();
+		sceneUploader.upload(scene, vertexBuffer, uvBuffer);
+		int[] vertices = ints(vertexBuffer);
+		float[] uvs = floats(uvBuffer);
+		List<int[]> expectedOffsets = copyOffsets();
+
+		CacheStats before = sceneUploader.getModelCacheStats();
+		vertexBuffer = new GpuIntBuffer();
+		uvBuffer = new GpuFloatBuffer();
+		sceneUploader.upload(scene, vertexBuffer, uvBuffer);
+
+		CacheStats stats = sceneUploader.getModelCacheStats().minus(before);
+		assertEquals(0, stats.missCount());
+		assertTrue(stats.hitCount() > 0);
+
+		assertArrayEquals(vertices, ints(vertexBuffer));
+		assertArrayEquals(uvs, floats(uvBuffer), 0f);
+		for (int i = 0; i < offsets.size(); ++i)
+		{
+			assertArrayEquals(expectedOffsets.get(i), offsets.get(i));
+		}
+	}
+
+	@Test
+	public void testModelCacheChangedModel()
+	{
+		Scene scene = scene();
+
+		GpuIntBuffer vertexBuffer = new GpuIntBuffer();
+		GpuFloatBuffer uvBuffer = new GpuFloatBuffer();
+		sceneUploader.upload(scene, vertexBuffer, uvBuffer);
+		int[] vertices = ints(vertexBuffer);
+
+		// replace the vertices of an uploaded model with an equal copy, which the cache can't tell is equal
+		Model model = models.stream()
+			.filter(m -> m.getSceneId() == sceneUploader.sceneId)
+			.findFirst()
+			.get();
+		float[] verticesX = model.getVerticesX().clone();
+		when(model.getVerticesX()).thenReturn(verticesX);
+
+		CacheStats before = sceneUploader.getModelCacheStats();
+		vertexBuffer = new GpuIntBuffer();
+		uvBuffer = new GpuFloatBuffer();
+		sceneUploader.uploadParallel(scene, vertexBuffer, uvBuffer, 2);
+
+		CacheStats stats = sceneUploader.getModelCacheStats().minus(before);
+		assertEquals(1, stats.missCount());
+		assertTrue(stats.hitCount() > 0);
+		assertArrayEquals(vertices, ints(vertexBuffer));
+	}
+
+	@Test
+	public void testUploadParallelEmptyScene()
+	{
+		Scene scene = mock(Scene.class);
+		when(scene.getExtendedTiles()).thenReturn(new Tile[Constants.MAX_Z][Constants.EXTENDED_SCENE_SIZE][Constants.EXTENDED_SCENE_SIZE]);
+
+		GpuIntBuffer vertexBuffer = new GpuIntBuffer();
+		GpuFloatBuffer uvBuffer = new GpuFloatBuffer();
+		sceneUploader.uploadParallel(scene, vertexBuffer, uvBuffer, 4);
+		assertEquals(0, vertexBuffer.getBuffer().position());
+		assertEquals(0, uvBuffer.getBuffer().position());
+	}
+
+	private Scene scene()
+	{
+		for (int i = 0; i < 200; ++i)
+		{
+			models.add(model());
+		}
+
+		Tile[][][] tiles = new Tile[Constants.MAX_Z][Constants.EXTENDED_SCENE_SIZE][Constants.EXTENDED_SCENE_SIZE];
+		for (int z = 0; z < Constants.MAX_Z; ++z)
+		{
+			for (int x = 0; x < Constants.EXTENDED_SCENE_SIZE; ++x)
+			{
+				for (int y = 0; y < Constants.EXTENDED_SCENE_SIZE; ++y)
+				{
+					if (random.nextInt(50) == 0)
+					{
+						Tile tile = tile(z, x, y);
+						if (random.nextInt(10) == 0)
+						{
+							Tile bridge = tile(z, x, y);
+							when(tile.getBridge()).thenReturn(bridge);
+						}
+						tiles[z][x][y] = tile;
+					}
+				}
+			}
+		}
+
+		int[][][] tileHeights = new int[Constants.MAX_Z][Constants.EXTENDED_SCENE_SIZE + 1][Constants.EXTENDED_SCENE_SIZE + 1];
+		for (int[][] plane : tileHeights)
+		{
+			for (int[] row : plane)
+			{
+				for (int i = 0; i < row.length; ++i)
+				{
+					row[i] = -random.nextInt(1000);
+				}
+			}
+		}
+
+		Scene scene = mock(Scene.class);
+		when(scene.getExtendedTiles()).thenReturn(tiles);
+		when(scene.getTileHeights()).thenReturn(tileHeights);
+		return scene;
+	}
+
+	private Tile tile(int z, int x, int y)
+	{
+		Tile tile = mock(Tile.class);
+		when(tile.getRenderLevel()).thenReturn(z);
+		when(tile.getSceneLocation()).thenReturn(new Point(x - GpuPlugin.SCENE_OFFSET, y - GpuPlugin.SCENE_OFFSET));
+
+		if (random.nextBoolean())
+		{
+			SceneTilePaint paint = paint();
+			when(tile.getSceneTilePaint()).thenReturn(paint);
+		}
+		else if (random.nextBoolean())
+		{
+			SceneTileModel tileModel = tileModel(x, y);
+			when(tile.getSceneTileModel()).thenReturn(tileModel);
+		}
+
+		if (random.nextInt(4) == 0)
+		{
+			Model renderable1 = randomModel();
+			Model renderable2 = random.nextBoolean() ? renderable1 : randomModel();
+			WallObject wallObject = mock(WallObject.class);
+			when(wallObject.getRenderable1()).thenReturn(renderable1);
+			when(wallObject.getRenderable2()).thenReturn(renderable2);
+			when(tile.getWallObject()).thenReturn(wallObject);
+		}
+
+		GameObject[] gameObjects = new GameObject[5];
+		for (int i = random.nextInt(gameObjects.length); i >= 0; --i)
+		{
+			Model renderable = randomModel();
+			GameObject gameObject = mock(GameObject.class);
+			when(gameObject.getRenderable()).thenReturn(renderable);
+			gameObjects[i] = gameObject;
+		}
+		when(tile.getGameObjects()).thenReturn(gameObjects);
+		return tile;
+	}
+
+	private SceneTilePaint paint()
+	{
+		SceneTilePaint paint = mock(SceneTilePaint.class);
+		when(paint.getSwColor()).thenReturn(random.nextInt(65536));
+		when(paint.getSeColor()).thenReturn(random.nextInt(65536));
+		when(paint.getNeColor()).thenReturn(random.nextInt(8) == 0 ? 12345678 : random.nextInt(65536));
+		when(paint.getNwColor()).thenReturn(random.nextInt(65536));
+		when(paint.getTexture()).thenReturn(random.nextBoolean() ? -1 : random.nextInt(100));
+		when(paint.isFlat()).thenReturn(random.nextBoolean());
+
+		int[] offset = offset();
+		doAnswer(i -> offset[0] = i.getArgument(0)).when(paint).setBufferOffset(anyInt());
+		doAnswer(i -> offset[1] = i.getArgument(0)).when(paint).setUvBufferOffset(anyInt());
+		doAnswer(i -> offset[2] = i.getArgument(0)).when(paint).setBufferLen(anyInt());
+		when(paint.getBufferOffset()).thenAnswer(i -> offset[0]);
+		when(paint.getUvBufferOffset()).thenAnswer(i -> offset[1]);
+		return paint;
+	}
+
+	private SceneTileModel tileModel(int x, int y)
+	{
+		int vertexCount = 4 + random.nextInt(4);
+		int faceCount = 1 + random.nextInt(6);
+
+		int[] vertexX = new int[vertexCount];
+		int[] vertexY = new int[vertexCount];
+		int[] vertexZ = new int[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			vertexX[i] = (x << 7) + random.nextInt(128);
+			vertexY[i] = -random.nextInt(1000);
+			vertexZ[i] = (y << 7) + random.nextInt(128);
+		}
+
+		int[] faceX = new int[faceCount];
+		int[] faceY = new int[faceCount];
+		int[] faceZ = new int[faceCount];
+		int[] colorA = new int[faceCount];
+		int[] colorB = new int[faceCount];
+		int[] colorC = new int[faceCount];
+		int[] textures = random.nextBoolean() ? null : new int[faceCount];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			faceX[i] = random.nextInt(vertexCount);
+			faceY[i] = random.nextInt(vertexCount);
+			faceZ[i] = random.nextInt(vertexCount);
+			colorA[i] = random.nextInt(8) == 0 ? 12345678 : random.nextInt(65536);
+			colorB[i] = random.nextInt(65536);
+			colorC[i] = random.nextInt(65536);
+			if (textures != null)
+			{
+				textures[i] = random.nextBoolean() ? -1 : random.nextInt(100);
+			}
+		}
+
+		SceneTileModel tileModel = mock(SceneTileModel.class);
+		when(tileModel.getVertexX()).thenReturn(vertexX);
+		when(tileModel.getVertexY()).thenReturn(vertexY);
+		when(tileModel.getVertexZ()).thenReturn(vertexZ);
+		when(tileModel.getFaceX()).thenReturn(faceX);
+		when(tileModel.getFaceY()).thenReturn(faceY);
+		when(tileModel.getFaceZ()).thenReturn(faceZ);
+		when(tileModel.getTriangleColorA()).thenReturn(colorA);
+		when(tileModel.getTriangleColorB()).thenReturn(colorB);
+		when(tileModel.getTriangleColorC()).thenReturn(colorC);
+		when(tileModel.getTriangleTextureId()).thenReturn(textures);
+		when(tileModel.isFlat()).thenReturn(random.nextBoolean());
+
+		int[] offset = offset();
+		doAnswer(i -> offset[0] = i.getArgument(0)).when(tileModel).setBufferOffset(anyInt());
+		doAnswer(i -> offset[1] = i.getArgument(0)).when(tileModel).setUvBufferOffset(anyInt());
+		doAnswer(i -> offset[2] = i.getArgument(0)).when(tileModel).setBufferLen(anyInt());
+		when(tileModel.getBufferOffset()).thenAnswer(i -> offset[0]);
+		when(tileModel.getUvBufferOffset()).thenAnswer(i -> offset[1]);
+		return tileModel;
+	}
+
+	// models are shared between tiles, and some are hillskewed copies of another model
+	private Model randomModel()
+	{
+		Model model = models.get(random.nextInt(models.size()));
+		if (random.nextInt(10) == 0)
+		{
+			Model skewed = mock(Model.class);
+			when(skewed.getUnskewedModel()).thenReturn(model);
+			return skewed;
+		}
+		return model;
+	}
+
+	private Model model()
+	{
+		int vertexCount = 3 + random.nextInt(10);
+		int faceCount = 1 + random.nextInt(10);
+
+		float[] verticesX = new float[vertexCount];
+		float[] verticesY = new float[vertexCount];
+		float[] verticesZ = new float[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			verticesX[i] = random.nextInt(256) - 128;
+			verticesY[i] = -random.nextInt(256);
+			verticesZ[i] = random.nextInt(256) - 128;
+		}
+
+		int[] indices1 = new int[faceCount];
+		int[] indices2 = new int[faceCount];
+		int[] indices3 = new int[faceCount];
+		int[] colors1 = new int[faceCount];
+		int[] colors2 = new int[faceCount];
+		int[] colors3 = new int[faceCount];
+		short[] faceTextures = random.nextBoolean() ? null : new short[faceCount];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			indices1[i] = random.nextInt(vertexCount);
+			indices2[i] = random.nextInt(vertexCount);
+			indices3[i] = random.nextInt(vertexCount);
+			colors1[i] = random.nextInt(65536);
+			colors2[i] = random.nextInt(65536);
+			colors3[i] = random.nextInt(10) == 0 ? -1 - random.nextInt(2) : random.nextInt(65536);
+			if (faceTextures != null)
+			{
+				faceTextures[i] = (short) (random.nextBoolean() ? -1 : random.nextInt(100));
+			}
+		}
+
+		Model model = mock(Model.class);
+		when(model.getFaceCount()).thenReturn(faceCount);
+		when(model.getVerticesX()).thenReturn(verticesX);
+		when(model.getVerticesY()).thenReturn(verticesY);
+		when(model.getVerticesZ()).thenReturn(verticesZ);
+		when(model.getFaceIndices1()).thenReturn(indices1);
+		when(model.getFaceIndices2()).thenReturn(indices2);
+		when(model.getFaceIndices3()).thenReturn(indices3);
+		when(model.getFaceColors1()).thenReturn(colors1);
+		when(model.getFaceColors2()).thenReturn(colors2);
+		when(model.getFaceColors3()).thenReturn(colors3);
+		when(model.getFaceTextures()).thenReturn(faceTextures);
+
+		int[] sceneId = new int[1];
+		doAnswer(i -> sceneId[0] = i.getArgument(0)).when(model).setSceneId(anyInt());
+		when(model.getSceneId()).thenAnswer(i -> sceneId[0]);
+
+		int[] offset = offset();
+		doAnswer(i -> offset[0] = i.getArgument(0)).when(model).setBufferOffset(anyInt());
+		doAnswer(i -> offset[1] = i.getArgument(0)).when(model).setUvBufferOffset(anyInt());
+		when(model.getBufferOffset()).thenAnswer(i -> offset[0]);
+		when(model.getUvBufferOffset()).thenAnswer(i -> offset[1]);
+		return model;
+	}
+
+	private int[] offset()
+	{
+		int[] offset = {-2, -2, -2};
+		offsets.add(offset);
+		return offset;
+	}
+
+	private List<int[]> copyOffsets()
+	{
+		List<int[]> copy = new ArrayList<>(offsets.size());
+		for (int[] offset : offsets)
+		{
+			copy.add(offset.clone());
+		}
+		return copy;
+	}
+
+	private static int[] ints(GpuIntBuffer buffer)
+	{
+		buffer.flip();
+		IntBuffer b = buffer.getBuffer();
+		int[] ints = new int[b.remaining()];
+		b.get(ints);
+		return ints;
+	}
+
+	private static float[] floats(GpuFloatBuffer buffer)
+	{
+		buffer.flip();
+		FloatBuffer b = buffer.getBuffer();
+		float[] floats = new float[b.remaining()];
+		b.get(floats);
+		return floats;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StartupTracerTest
+{
+	@Before
+	public void before()
+	{
+		StartupTracer.reset();
+	}
+
+	@After
+	public void after()
+	{
+		StartupTracer.reset();
+	}
+
+	@Test
+	public void testNestedSpans() throws IOException
+	{
+		try (var outer = StartupTracer.span("outer"))
+		{
+			try (var inner = StartupTracer.span("inner", "plugin"))
+			{
+				assertTrue(StartupTracer.isRecording());
+			}
+		}
+
+		Map<String, JsonObject> spans = spans(write());
+		assertEquals(2, spans.size());
+
+		JsonObject outer = spans.get("outer");
+		JsonObject inner = spans.get("inner");
+		assertNotNull(outer);
+		assertNotNull(inner);
+		assertEquals("startup", outer.get("cat").getAsString());
+		assertEquals("plugin", inner.get("cat").getAsString());
+		assertEquals(outer.get("tid").getAsLong(), inner.get("tid").getAsLong());
+
+		long outerStart = outer.get("ts").getAsLong();
+		long innerStart = inner.get("ts").getAsLong();
+		assertTrue(innerStart >= outerStart);
+		assertTrue(innerStart + inner.get("dur").getAsLong() <= outerStart + outer.get("dur").getAsLong() + 1);
+	}
+
+	@Test
+	public void testThreadNames() throws Exception
+	{
+		Thread thread = new Thread(() ->
+		{
+			try (var span = StartupTracer.span("worker"))
+			{
+				Thread.yield();
+			}
+		}, "Tracer test");
+		thread.start();
+		thread.join();
+
+		JsonObject trace = write();
+		boolean found = false;
+		for (JsonElement element : trace.getAsJsonArray("traceEvents"))
+		{
+			JsonObject event = element.getAsJsonObject();
+			if (event.get("ph").getAsString().equals("M") && event.get("tid").getAsLong() == thread.getId())
+			{
+				assertEquals("Tracer test", event.getAsJsonObject("args").get("name").getAsString());
+				found = true;
+			}
+		}
+		assertTrue(found);
+		assertEquals(thread.getId(), spans(trace).get("worker").get("tid").getAsLong());
+	}
+
+	private static JsonObject write() throws IOException
+	{
+		StringWriter writer = new StringWriter();
+		try (JsonWriter out = new JsonWriter(writer))
+		{
+			StartupTracer.write(out);
+		}
+		return new Gson().fromJson(writer.toString(), JsonObject.class);
+	}
+
+	private static Map<String, JsonObject> spans(JsonObject trace)
+	{
+		JsonArray events = trace.getAsJsonArray("traceEvents");
+		Map<String, JsonObject> spans = new HashMap<>();
+		for (JsonElement element : events)
+		{
+			JsonObject event = element.getAsJsonObject();
+			if (event.get("ph").getAsString().equals("X"))
+			{
+				spans.put(event.get("name").getAsString(), event);
+			}
+		}
+		return spans;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Matches every name against a list of patterns, as the ground items and npc highlight plugins do,
+ * with per call regexes and with a compiled {@link WildcardMatcher}. The patterns are a mix of exact
+ * names and prefix, suffix and infix wildcards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WildcardMatcherBenchmark
+{
+	private static final String[] WORDS = {
+		"rune", "dragon", "bones", "abyssal", "whip", "scimitar", "ore", "coal", "iron", "bar", "seed", "herb",
+		"potion", "arrow", "bolt", "tips", "shield", "helm", "platebody", "legs", "guthix", "saradomin", "zamorak",
+		"ranarr", "snapdragon", "torstol", "magic", "logs", "yew", "battleaxe", "pickaxe", "mithril", "adamant",
+	};
+
+	@Param({"100", "500"})
+	private int patternCount;
+
+	@Param({"5000"})
+	private int nameCount;
+
+	private List<String> patterns;
+	private String[] names;
+	private WildcardMatcher matcher;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42);
+		patterns = new ArrayList<>(patternCount);
+		for (int i = 0; i < patternCount; ++i)
+		{
+			String word = WORDS[random.nextInt(WORDS.length)];
+			String name = word + " " + WORDS[random.nextInt(WORDS.length)];
+			switch (random.nextInt(4))
+			{
+				case 0:
+					patterns.add(name);
+					break;
+				case 1:
+					patterns.add(word + "*");
+					break;
+				case 2:
+					patterns.add("*" + name);
+					break;
+				default:
+					patterns.add("*" + word + "*" + WORDS[random.nextInt(WORDS.length)] + "*");
+					break;
+			}
+		}
+
+		names = new String[nameCount];
+		for (int i = 0; i < nameCount; ++i)
+		{
+			StringBuilder sb = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+			for (int j = random.nextInt(3); j >= 0; --j)
+			{
+				sb.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+			}
+			names[i] = Character.toUpperCase(sb.charAt(0)) + sb.substring(1);
+		}
+
+		matcher = WildcardMatcher.compile(patterns);
+	}
+
+	@Benchmark
+	public int matches()
+	{
+		int matched = 0;
+		for (String name : names)
+		{
+			for (String pattern : patterns)
+			{
+				if (WildcardMatcher.matches(pattern, name))
+				{
+					++matched;
+					break;
+				}
+			}
+		}
+		return matched;
+	}
+
+	@Benchmark
+	public int matchesAny()
+	{
+		int matched = 0;
+		for (String name : names)
+		{
+			if (matcher.matchesAny(name))
+			{
+				++matched;
+			}
+		}
+		return matched;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(WildcardMatcherBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
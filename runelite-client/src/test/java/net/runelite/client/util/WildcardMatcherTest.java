@@ -25,6 +25,10 @@
 package net.runelite.client.util;
 
 import static net.runelite.client.util.WildcardMatcher.matches;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
@@ -41,4 +45,38 @@ public class WildcardMatcherTest
 		assertTrue(matches("Abyssal whip", "Abyssal whip"));
 		assertTrue(matches("string $ with special character", "string $ with special character"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testMatchesAny()
+	{
+		WildcardMatcher matcher = WildcardMatcher.compile(Arrays.asList("rune*", "Abyssal whip", "*scimitar", "dragon*axe", "*ore*", "string $ with special character"));
+		assertTrue(matcher.matchesAny("Rune pouch"));
+		assertTrue(matcher.matchesAny("abyssal WHIP"));
+		assertTrue(matcher.matchesAny("Black scimitar"));
+		assertTrue(matcher.matchesAny("Dragon battleaxe"));
+		assertTrue(matcher.matchesAny("Iron ore"));
+		assertTrue(matcher.matchesAny("string $ with special character"));
+		assertFalse(matcher.matchesAny("Abyssal whips"));
+		assertFalse(matcher.matchesAny("Dragon axes"));
+		assertFalse(matcher.matchesAny("Adamant dagger"));
+		assertFalse(matcher.matchesAny(""));
+
+		assertTrue(WildcardMatcher.compile(Collections.singletonList("*")).matchesAny(""));
+		assertFalse(WildcardMatcher.compile(Collections.emptyList()).matchesAny("Rune pouch"));
+	}
+
+	@Test
+	public void testMatchesAnyEquivalence()
+	{
+		List<String> patterns = Arrays.asList("a*", "*a", "a*a", "*a*b*", "ab**c", "**", "aba", "b*ab*", "", "*\u00c9*", "\u00e9");
+		List<String> texts = Arrays.asList("", "a", "A", "aa", "aba", "ABA", "abc", "abbc", "bab", "bAbAb", "cab", "\u00c9", "\u00e9", "x\u00c9x");
+		for (String pattern : patterns)
+		{
+			WildcardMatcher matcher = WildcardMatcher.compile(Collections.singletonList(pattern));
+			for (String text : texts)
+			{
+				assertEquals(pattern + " ~ " + text, matches(pattern, text), matcher.matchesAny(text));
+			}
+		}
+	}
+}
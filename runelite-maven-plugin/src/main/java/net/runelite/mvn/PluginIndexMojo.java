@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Writes an index of the plugins in the compiled classes, with their descriptors and dependencies, so
+ * the client can find its plugins without scanning the classpath.
+ */
+@Mojo(
+	name = "plugin-index",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+	requiresDependencyResolution = ResolutionScope.COMPILE
+)
+public class PluginIndexMojo extends AbstractMojo
+{
+	private static final String PLUGIN = "net.runelite.client.plugins.Plugin";
+	private static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+	private static final String PLUGIN_DEPENDENCY = "net.runelite.client.plugins.PluginDependency";
+
+	@Parameter(defaultValue = "${project}")
+	private MavenProject project;
+
+	@Parameter(defaultValue = "net.runelite.client.plugins")
+	private String pluginPackage;
+
+	@Parameter(required = true)
+	private File indexFile;
+
+	private final Log log = getLog();
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		File classesDirectory = new File(project.getBuild().getOutputDirectory());
+		List<String> classNames = new ArrayList<>();
+		findClasses(new File(classesDirectory, pluginPackage.replace('.', File.separatorChar)), pluginPackage, classNames);
+		classNames.sort(Comparator.naturalOrder());
+
+		List<Map<String, Object>> index = new ArrayList<>();
+		try (URLClassLoader classLoader = new URLClassLoader(classpath(), ClassLoader.getPlatformClassLoader()))
+		{
+			Class<?> pluginClass = classLoader.loadClass(PLUGIN);
+			Class<? extends Annotation> descriptorClass = classLoader.loadClass(PLUGIN_DESCRIPTOR).asSubclass(Annotation.class);
+			Class<? extends Annotation> dependencyClass = classLoader.loadClass(PLUGIN_DEPENDENCY).asSubclass(Annotation.class);
+			Method[] descriptorMethods = descriptorClass.getDeclaredMethods();
+			Arrays.sort(descriptorMethods, Comparator.comparing(Method::getName));
+			Method dependencyValue = dependencyClass.getMethod("value");
+
+			for (String className : classNames)
+			{
+				// don't initialize the class, only its annotations are needed
+				Class<?> clazz = Class.forName(className, false, classLoader);
+				Annotation descriptor = clazz.getAnnotation(descriptorClass);
+				if (descriptor == null)
+				{
+					if (clazz.getSuperclass() == pluginClass)
+					{
+						log.warn("Class " + className + " is a plugin, but has no plugin descriptor");
+					}
+					continue;
+				}
+
+				Map<String, Object> entry = new LinkedHashMap<>();
+				entry.put("className", className);
+				for (Method method : descriptorMethods)
+				{
+					entry.put(method.getName(), method.invoke(descriptor));
+				}
+
+				List<String> dependencies = new ArrayList<>();
+				for (Annotation dependency : clazz.getAnnotationsByType(dependencyClass))
+				{
+					dependencies.add(((Class<?>) dependencyValue.invoke(dependency)).getName());
+				}
+				entry.put("dependencies", dependencies);
+
+				index.add(entry);
+			}
+		}
+		catch (IOException | ReflectiveOperationException | LinkageError ex)
+		{
+			throw new MojoExecutionException("error reading plugin classes", ex);
+		}
+
+		Gson gson = new GsonBuilder()
+			.setPrettyPrinting()
+			.create();
+		indexFile.getParentFile().mkdirs();
+		try (Writer out = new OutputStreamWriter(new FileOutputStream(indexFile), StandardCharsets.UTF_8))
+		{
+			gson.toJson(index, out);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error writing plugin index", ex);
+		}
+
+		log.info("Indexed " + index.size() + " plugins");
+	}
+
+	private URL[] classpath() throws MojoExecutionException
+	{
+		try
+		{
+			List<String> elements = project.getCompileClasspathElements();
+			URL[] urls = new URL[elements.size()];
+			for (int i = 0; i < urls.length; ++i)
+			{
+				urls[i] = new File(elements.get(i)).toURI().toURL();
+			}
+			return urls;
+		}
+		catch (DependencyResolutionRequiredException | MalformedURLException ex)
+		{
+			throw new MojoExecutionException("unable to build classpath", ex);
+		}
+	}
+
+	/**
+	 * Find the top level classes in a package and its subpackages
+	 */
+	private static void findClasses(File directory, String packageName, List<String> classNames)
+	{
+		File[] files = directory.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			String name = file.getName();
+			if (file.isDirectory())
+			{
+				findClasses(file, packageName + "." + name, classNames);
+			}
+			else if (name.endsWith(".class") && name.indexOf('$') == -1)
+			{
+				classNames.add(packageName + "." + name.substring(0, name.length() - ".class".length()));
+			}
+		}
+	}
+}